@@ -87,6 +87,9 @@ export default function PlaceCommentList({
   const getCommentParams = {
     placeId,
     page,
+    // 서버에서 받아온 마지막 댓글의 아이디 다음부터 조회
+    lastCommentId: initialComments.length !== 0
+      ? initialComments[initialComments.length - 1].commentId : undefined,
     setIsLastPage,
     setComments,
     setTotalComments,
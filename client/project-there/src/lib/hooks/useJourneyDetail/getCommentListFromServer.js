@@ -4,9 +4,12 @@ import customAxios from '../../apis/core/instance';
  * 서버로부터 장소에 적힌 댓글들을 받아옴
  * @param {*} param0
  */
-export default function getCommentListFromServer({ placeId, page, setIsLastPage,
-  setComments, setTotalComments, setInitialComments }) {
-  const url = `place/comment?placeId=${placeId}&page=${page}&size=${10}&sort=commentId.desc`;
+export default function getCommentListFromServer({ placeId, page, lastCommentId,
+  setIsLastPage, setComments, setTotalComments, setInitialComments }) {
+  let url = `place/comment?placeId=${placeId}&size=${10}`;
+  if (lastCommentId !== undefined) {
+    url += `&lastCommentId=${lastCommentId}`;
+  }
   customAxios.get(url).then(({ data }) => {
     const { totalElements, last, content } = data;
     if (last) {
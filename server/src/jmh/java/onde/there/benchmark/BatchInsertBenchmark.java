@@ -0,0 +1,155 @@
+package onde.there.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import onde.there.place.repository.PlaceImageRepositoryImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 장소 이미지 insert 를 한 줄씩 보낼 때(IDENTITY 로 save 를 반복하던 방식)와
+ * PlaceImageRepositoryImpl 의 JDBC 배치로 보낼 때의 DB 왕복 횟수와 시간.
+ * DB 대신 statement 실행마다 ROUND_TRIP_MICROS 만큼 기다리는 가짜 DataSource 를 쓴다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchInsertBenchmark {
+
+	private static final long ROUND_TRIP_MICROS = 200;
+	private static final String INSERT_SQL =
+		"insert into place_image (place_id, url) values (?, ?)";
+
+	@Param({"3", "10"})
+	private int imageNum;
+
+	private final AtomicInteger roundTrips = new AtomicInteger();
+	private JdbcTemplate jdbcTemplate;
+	private PlaceImageRepositoryImpl placeImageRepository;
+	private List<String> imageUrls;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RoundTrips {
+
+		public int roundTrips;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			roundTrips = 0;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		jdbcTemplate = new JdbcTemplate(latencyDataSource(roundTrips));
+		placeImageRepository = new PlaceImageRepositoryImpl(jdbcTemplate);
+
+		imageUrls = new ArrayList<>();
+		for (int i = 0; i < imageNum; i++) {
+			imageUrls.add("https://onde-bucket.s3.ap-northeast-2.amazonaws.com/" + i + ".png");
+		}
+	}
+
+	@Benchmark
+	public void insertOneByOne(RoundTrips counter) {
+		roundTrips.set(0);
+		for (String imageUrl : imageUrls) {
+			jdbcTemplate.update(INSERT_SQL, 1L, imageUrl);
+		}
+		counter.roundTrips += roundTrips.get();
+	}
+
+	@Benchmark
+	public void insertAllInBatch(RoundTrips counter) {
+		roundTrips.set(0);
+		placeImageRepository.insertAllInBatch(1L, imageUrls);
+		counter.roundTrips += roundTrips.get();
+	}
+
+	private static DataSource latencyDataSource(AtomicInteger roundTrips) {
+		DatabaseMetaData metaData = proxy(DatabaseMetaData.class, (method, args) ->
+			"supportsBatchUpdates".equals(method) ? Boolean.TRUE : null);
+
+		Connection[] connection = new Connection[1];
+		connection[0] = proxy(Connection.class, (method, args) -> {
+			if ("getMetaData".equals(method)) {
+				return metaData;
+			}
+			if (!"prepareStatement".equals(method)) {
+				return null;
+			}
+			AtomicInteger batchSize = new AtomicInteger();
+			return proxy(PreparedStatement.class, (statementMethod, statementArgs) -> {
+				switch (statementMethod) {
+					case "getConnection":
+						return connection[0];
+					case "addBatch":
+						batchSize.incrementAndGet();
+						return null;
+					case "executeUpdate":
+						roundTrip(roundTrips);
+						return 1;
+					case "executeBatch":
+						roundTrip(roundTrips);
+						int[] counts = new int[batchSize.getAndSet(0)];
+						Arrays.fill(counts, 1);
+						return counts;
+					default:
+						return null;
+				}
+			});
+		});
+
+		return proxy(DataSource.class, (method, args) ->
+			"getConnection".equals(method) ? connection[0] : null);
+	}
+
+	private static void roundTrip(AtomicInteger roundTrips) {
+		roundTrips.incrementAndGet();
+		LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROUND_TRIP_MICROS));
+	}
+
+	private interface Handler {
+
+		Object handle(String method, Object[] args);
+	}
+
+	// 처리하지 않는 메서드는 null, 기본형이면 0 이나 false 를 돌려준다
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Handler handler) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+			(proxy, method, args) -> {
+				Object result = handler.handle(method.getName(), args);
+				if (result != null || !method.getReturnType().isPrimitive()) {
+					return result;
+				}
+				Class<?> returnType = method.getReturnType();
+				if (returnType == boolean.class) {
+					return false;
+				}
+				if (returnType == long.class) {
+					return 0L;
+				}
+				return returnType == int.class ? 0 : null;
+			});
+	}
+}
@@ -0,0 +1,106 @@
+package onde.there.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import onde.there.domain.Journey;
+import onde.there.domain.JourneyTheme;
+import onde.there.domain.Member;
+import onde.there.domain.Place;
+import onde.there.domain.PlaceImage;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.PlaceCategoryType;
+import onde.there.domain.type.RegionType;
+
+/**
+ * DbInput 과 같은 모양의 여정, 장소를 DB 없이 메모리에 만든다. 벤치마크는 이 데이터로만 실행된다.
+ */
+public final class BenchmarkFixtures {
+
+	public static final int JOURNEY_THEME_NUM = 3;
+	public static final int PLACE_IMAGE_NUM = 10;
+
+	private BenchmarkFixtures() {
+	}
+
+	public static Member member() {
+		return Member.builder()
+			.id("member Id")
+			.email("memeber@com.com")
+			.password("1234")
+			.name("memberName")
+			.nickName("memberNickName")
+			.build();
+	}
+
+	public static List<Journey> journeys(int journeyNum) {
+		Member member = member();
+		RegionType[] regions = RegionType.values();
+		JourneyThemeType[] themes = JourneyThemeType.values();
+
+		List<Journey> journeys = new ArrayList<>();
+		for (int i = 0; i < journeyNum; i++) {
+			List<JourneyTheme> journeyThemes = new ArrayList<>();
+			Journey journey = Journey.builder()
+				.id((long) i)
+				.title("test journey" + i)
+				.startDate(LocalDate.now().minusDays(1))
+				.endDate(LocalDate.now())
+				.journeyThumbnailUrl("https://bucket/journeyThumbnail" + i + ".png")
+				.disclosure("public")
+				.introductionText("introductionText test")
+				.numberOfPeople(i)
+				.region(regions[i % regions.length])
+				.member(member)
+				.journeyThemes(journeyThemes)
+				.build();
+
+			for (int j = 0; j < JOURNEY_THEME_NUM; j++) {
+				journeyThemes.add(JourneyTheme.builder()
+					.id((long) (i * JOURNEY_THEME_NUM + j))
+					.journey(journey)
+					.journeyThemeName(themes[(i + j) % themes.length])
+					.build());
+			}
+			journeys.add(journey);
+		}
+		return journeys;
+	}
+
+	public static List<Place> places(Journey journey, int placeNum) {
+		PlaceCategoryType[] categories = PlaceCategoryType.values();
+
+		List<Place> places = new ArrayList<>();
+		for (int j = 0; j < placeNum; j++) {
+			Place place = Place.builder()
+				.id((long) j)
+				.latitude(37.5 + j * 0.001)
+				.longitude(127.0 + j * 0.001)
+				.title("장소 = " + j)
+				.text("place title test    여정 = " + journey.getId() + " 장소 = " + j)
+				.addressName("addressName test")
+				.region1("region1")
+				.region2("region2")
+				.region3("region3")
+				.region4("region4")
+				.placeCategory(categories[j % categories.length])
+				.placeName("place name test" + j)
+				.placeTime(LocalDateTime.now())
+				.journey(journey)
+				.placeHeartCount(j * 250L)
+				.placeImages(new ArrayList<>())
+				.build();
+
+			List<PlaceImage> placeImages = new ArrayList<>();
+			for (int k = 0; k < PLACE_IMAGE_NUM; k++) {
+				placeImages.add(PlaceImage.builder()
+					.imageUrl("https://bucket/place" + j + "_" + k + ".png")
+					.build());
+			}
+			place.setPlaceImages(placeImages);
+			places.add(place);
+		}
+		return places;
+	}
+}
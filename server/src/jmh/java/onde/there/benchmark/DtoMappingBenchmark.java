@@ -0,0 +1,79 @@
+package onde.there.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import onde.there.domain.Journey;
+import onde.there.domain.Place;
+import onde.there.dto.journy.JourneyDto;
+import onde.there.dto.place.PlaceDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 여정 목록, 장소 목록 한 페이지를 응답 DTO 로 바꾸는 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+	@Param({"10", "100"})
+	private int size;
+
+	private List<Journey> journeys;
+	private List<List<String>> journeyThemeNames;
+	private List<Place> places;
+
+	@Setup
+	public void setUp() {
+		journeys = BenchmarkFixtures.journeys(size);
+		journeyThemeNames = journeys.stream()
+			.map(journey -> journey.getJourneyThemes().stream()
+				.map(journeyTheme -> journeyTheme.getJourneyThemeName().getThemeName())
+				.collect(Collectors.toList()))
+			.collect(Collectors.toList());
+		places = BenchmarkFixtures.places(journeys.get(0), size);
+	}
+
+	@Benchmark
+	public JourneyDto.FilteringResponse[] filteringResponse() {
+		JourneyDto.FilteringResponse[] responses = new JourneyDto.FilteringResponse[size];
+		for (int i = 0; i < size; i++) {
+			responses[i] = JourneyDto.FilteringResponse.fromEntity(journeys.get(i),
+				journeyThemeNames.get(i));
+		}
+		return responses;
+	}
+
+	@Benchmark
+	public JourneyDto.MyListResponse[] myListResponse() {
+		JourneyDto.MyListResponse[] responses = new JourneyDto.MyListResponse[size];
+		for (int i = 0; i < size; i++) {
+			responses[i] = JourneyDto.MyListResponse.fromEntity(journeys.get(i),
+				journeyThemeNames.get(i));
+		}
+		return responses;
+	}
+
+	@Benchmark
+	public JourneyDto.JourneyListResponse[] journeyListResponse() {
+		JourneyDto.JourneyListResponse[] responses = new JourneyDto.JourneyListResponse[size];
+		for (int i = 0; i < size; i++) {
+			responses[i] = JourneyDto.JourneyListResponse.fromEntity(journeys.get(i),
+				journeyThemeNames.get(i));
+		}
+		return responses;
+	}
+
+	@Benchmark
+	public List<PlaceDto.Response> placeResponse() {
+		return PlaceDto.Response.toResponse(places);
+	}
+}
@@ -0,0 +1,69 @@
+package onde.there.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.PlaceCategoryType;
+import onde.there.domain.type.RegionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요청의 지역, 테마, 장소 카테고리 문자열을 enum 으로 바꾸는 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumLookupBenchmark {
+
+	private String[] regionNames;
+	private String[] themeNames;
+	private String[] categoryNames;
+
+	@Setup
+	public void setUp() {
+		RegionType[] regions = RegionType.values();
+		regionNames = new String[regions.length];
+		for (int i = 0; i < regions.length; i++) {
+			regionNames[i] = regions[i].getRegionName();
+		}
+
+		JourneyThemeType[] themes = JourneyThemeType.values();
+		themeNames = new String[themes.length];
+		for (int i = 0; i < themes.length; i++) {
+			themeNames[i] = themes[i].getThemeName();
+		}
+
+		PlaceCategoryType[] categories = PlaceCategoryType.values();
+		categoryNames = new String[categories.length];
+		for (int i = 0; i < categories.length; i++) {
+			categoryNames[i] = categories[i].getDescription();
+		}
+	}
+
+	@Benchmark
+	public void findByRegion(Blackhole blackhole) {
+		for (String regionName : regionNames) {
+			blackhole.consume(RegionType.findByRegion(regionName));
+		}
+	}
+
+	@Benchmark
+	public void findByTheme(Blackhole blackhole) {
+		for (String themeName : themeNames) {
+			blackhole.consume(JourneyThemeType.findByTheme(themeName));
+		}
+	}
+
+	@Benchmark
+	public void toPlaceCategoryType(Blackhole blackhole) {
+		for (String categoryName : categoryNames) {
+			blackhole.consume(PlaceCategoryType.toPlaceCategoryType(categoryName));
+		}
+	}
+}
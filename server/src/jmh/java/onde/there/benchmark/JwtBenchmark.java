@@ -0,0 +1,61 @@
+package onde.there.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import onde.there.member.security.jwt.JwtService;
+import onde.there.member.type.TokenType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 액세스 토큰 검증 비용. validateToken, getAuthentication 은 매번 서명 검증과 파싱을 하고,
+ * authenticate 는 한 번 검증한 토큰을 캐시에서 꺼낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+	private JwtService jwtService;
+	private String accessToken;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		jwtService = new JwtService(new SimpleMeterRegistry(), 1000);
+		Field secretKey = JwtService.class.getDeclaredField("secretKey");
+		secretKey.setAccessible(true);
+		secretKey.set(jwtService, "benchmark-secret");
+
+		accessToken = jwtService.generateToken(
+			new UsernamePasswordAuthenticationToken("member Id", "")).getAccessToken();
+	}
+
+	@Benchmark
+	public void validateToken() {
+		jwtService.validateToken(accessToken, TokenType.ACCESS);
+	}
+
+	@Benchmark
+	public Authentication getAuthentication() {
+		return jwtService.getAuthentication(accessToken);
+	}
+
+	@Benchmark
+	public Authentication validateAndGetAuthentication() {
+		jwtService.validateToken(accessToken, TokenType.ACCESS);
+		return jwtService.getAuthentication(accessToken);
+	}
+
+	@Benchmark
+	public Authentication authenticate() {
+		return jwtService.authenticate(accessToken);
+	}
+}
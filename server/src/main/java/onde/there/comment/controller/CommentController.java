@@ -10,10 +10,8 @@ import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import onde.there.comment.service.CommentService;
 import onde.there.dto.comment.CommentDto;
-import onde.there.dto.comment.CommentDto.Response;
+import onde.there.dto.comment.CommentDto.SliceResponse;
 import onde.there.member.security.jwt.TokenMemberId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -41,12 +39,15 @@ public class CommentController {
 
 	@GetMapping
 	@Operation(summary = "장소 댓글 조회", description = "장소 댓글 조회")
-	@ApiResponse(content = @Content(schema = @Schema(implementation = CommentDto.Response.class)))
-	public ResponseEntity<Page<Response>> getComments(
+	@ApiResponse(content = @Content(schema = @Schema(implementation = CommentDto.SliceResponse.class)))
+	public ResponseEntity<SliceResponse> getComments(
 		@Parameter(description = "장소 아이디", required = true)
 		@RequestParam Long placeId,
-		Pageable pageable) {
-		return ResponseEntity.ok(commentService.getComments(placeId, pageable));
+		@Parameter(description = "이전 조회 결과의 lastCommentId, 첫 조회 시 생략")
+		@RequestParam(required = false) Long lastCommentId,
+		@Parameter(description = "조회할 댓글 수")
+		@RequestParam(defaultValue = "10") int size) {
+		return ResponseEntity.ok(commentService.getComments(placeId, lastCommentId, size));
 	}
 
 	@PutMapping
@@ -1,11 +1,21 @@
 package onde.there.comment.repository;
 
+import java.util.Collection;
 import java.util.List;
 import onde.there.domain.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 	List<Comment> findAllByPlaceId(Long placeId);
+
+	long countByPlaceId(Long placeId);
+
+	@Modifying
+	@Query("delete from Comment c where c.place.id in :placeIds")
+	int deleteAllInBulkByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
 }
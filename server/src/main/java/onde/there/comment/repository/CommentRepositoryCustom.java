@@ -1,10 +1,8 @@
 package onde.there.comment.repository;
 
-import onde.there.dto.comment.CommentDto;
+import java.util.List;
 import onde.there.dto.comment.CommentDto.Response;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 public interface CommentRepositoryCustom {
-	Page<Response> getCommentPage(Long placeId, Pageable pageable);
+	List<Response> getCommentSlice(Long placeId, Long lastCommentId, int size);
 }
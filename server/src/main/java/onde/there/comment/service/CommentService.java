@@ -1,5 +1,6 @@
 package onde.there.comment.service;
 
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,13 +9,13 @@ import onde.there.comment.repository.CommentRepository;
 import onde.there.comment.repository.CommentRepositoryImpl;
 import onde.there.comment.exception.CommentErrorCode;
 import onde.there.domain.Comment;
+import onde.there.domain.Place;
 import onde.there.dto.comment.CommentDto;
 import onde.there.dto.comment.CommentDto.CreateRequest;
 import onde.there.dto.comment.CommentDto.Response;
+import onde.there.dto.comment.CommentDto.SliceResponse;
 import onde.there.member.repository.MemberRepository;
 import onde.there.place.repository.PlaceRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentService {
 
+	private static final int MAX_COMMENT_SIZE = 50;
+
 	private final CommentRepository commentRepository;
 	private final CommentRepositoryImpl commentRepositoryImpl;
 	private final MemberRepository memberRepository;
@@ -37,18 +40,38 @@ public class CommentService {
 				.orElseThrow(() -> new CommentException(CommentErrorCode.NOT_FOUND_PLACE)))
 			.text(request.getText())
 			.build());
-		log.info(comment.getMember().getNickName() + "님이 \"" + comment.getPlace().getTitle()
-			+ "\"에 댓글을 남겼습니다.");
+		log.info("{}님이 \"{}\"에 댓글을 남겼습니다.",
+			comment.getMember().getNickName(), comment.getPlace().getTitle());
+		placeRepository.addCommentCount(comment.getPlace().getId(), 1);
 		return comment;
 	}
 
 	@Transactional(readOnly = true)
-	public Page<Response> getComments(Long placeId, Pageable pageable) {
-		log.info("댓글 조회 시작");
-		if (!placeRepository.existsById(placeId)) {
-			throw new CommentException(CommentErrorCode.NOT_FOUND_PLACE);
+	public SliceResponse getComments(Long placeId, Long lastCommentId, int size) {
+		log.info("댓글 조회 시작 (장소 아이디 : {}, 마지막 댓글 아이디 : {})", placeId, lastCommentId);
+		Place place = placeRepository.findById(placeId)
+			.orElseThrow(() -> new CommentException(CommentErrorCode.NOT_FOUND_PLACE));
+
+		int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_SIZE));
+		List<Response> content = commentRepositoryImpl.getCommentSlice(placeId, lastCommentId,
+			pageSize + 1);
+		boolean hasNext = content.size() > pageSize;
+		if (hasNext) {
+			content = content.subList(0, pageSize);
 		}
-		return commentRepositoryImpl.getCommentPage(placeId, pageable);
+
+		// 아직 집계되지 않은 장소는 댓글 수를 직접 센다
+		long totalElements = place.getCommentCount() != null ? place.getCommentCount()
+			: commentRepository.countByPlaceId(placeId);
+
+		log.info("댓글 조회 완료 (장소 아이디 : {}, 조회 수 : {})", placeId, content.size());
+		return SliceResponse.builder()
+			.content(content)
+			.hasNext(hasNext)
+			.last(!hasNext)
+			.lastCommentId(content.isEmpty() ? null : content.get(content.size() - 1).getCommentId())
+			.totalElements(totalElements)
+			.build();
 	}
 
 	@Transactional
@@ -60,8 +83,8 @@ public class CommentService {
 		}
 		String preComment = comment.getText();
 		comment.updateComment(request.getText());
-		log.info("댓글 아이디 : " + comment.getId() + "의 댓글 \"" + preComment + "\"에서 \""
-			+ comment.getText() + "\"로 업데이트 되었습니다.");
+		log.info("댓글 아이디 : {}의 댓글 \"{}\"에서 \"{}\"로 업데이트 되었습니다.",
+			comment.getId(), preComment, comment.getText());
 		return commentRepository.save(comment);
 	}
 
@@ -73,6 +96,7 @@ public class CommentService {
 			throw new CommentException(CommentErrorCode.NOT_MATCH_MEMBER);
 		}
 		commentRepository.delete(comment);
-		log.info("댓글 아이디 : " + comment.getId() + "의 댓글 \"" + comment.getText() + "\" 삭제 완료");
+		placeRepository.addCommentCount(comment.getPlace().getId(), -1);
+		log.info("댓글 아이디 : {}의 댓글 \"{}\" 삭제 완료", comment.getId(), comment.getText());
 	}
 }
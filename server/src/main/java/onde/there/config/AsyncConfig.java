@@ -0,0 +1,94 @@
+package onde.there.config;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+	public static final String IMAGE_RESIZE_EXECUTOR = "imageResizeExecutor";
+	public static final String IMAGE_DELETE_EXECUTOR = "imageDeleteExecutor";
+
+	@Value("${image.resize.pool-size:2}")
+	private int imageResizePoolSize;
+
+	@Value("${image.resize.queue-capacity:50}")
+	private int imageResizeQueueCapacity;
+
+	@Value("${image.delete.pool-size:1}")
+	private int imageDeletePoolSize;
+
+	@Value("${image.delete.queue-capacity:100}")
+	private int imageDeleteQueueCapacity;
+
+	// 비동기 작업에서도 요청의 requestId, memberId 가 로그에 남도록 MDC 를 복사한다
+	// (TaskExecutorBuilder 는 TaskDecorator 빈을 자동으로 사용)
+	// CallerRunsPolicy 로 요청 스레드에서 실행될 수도 있으므로 끝나면 원래 MDC 로 되돌린다
+	@Bean
+	public TaskDecorator mdcTaskDecorator() {
+		return runnable -> {
+			Map<String, String> context = MDC.getCopyOfContextMap();
+			return () -> {
+				Map<String, String> previous = MDC.getCopyOfContextMap();
+				setContextMap(context);
+				try {
+					runnable.run();
+				} finally {
+					setContextMap(previous);
+				}
+			};
+		};
+	}
+
+	private static void setContextMap(Map<String, String> context) {
+		if (context == null) {
+			MDC.clear();
+		} else {
+			MDC.setContextMap(context);
+		}
+	}
+
+	// 다른 Executor 빈을 등록하면 기본 Executor 가 생성되지 않으므로 @Async 기본 Executor 를 직접 등록
+	@Bean(name = {"taskExecutor",
+		TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME})
+	public ThreadPoolTaskExecutor taskExecutor(TaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	// 큐가 가득 차면 요청한 스레드에서 직접 처리해서 업로드 속도를 늦춘다
+	@Bean(name = IMAGE_RESIZE_EXECUTOR)
+	public ThreadPoolTaskExecutor imageResizeExecutor(TaskDecorator mdcTaskDecorator) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(imageResizePoolSize);
+		executor.setMaxPoolSize(imageResizePoolSize);
+		executor.setQueueCapacity(imageResizeQueueCapacity);
+		executor.setThreadNamePrefix("image-resize-");
+		executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+		executor.setTaskDecorator(mdcTaskDecorator);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	@Bean(name = IMAGE_DELETE_EXECUTOR)
+	public ThreadPoolTaskExecutor imageDeleteExecutor(TaskDecorator mdcTaskDecorator) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(imageDeletePoolSize);
+		executor.setMaxPoolSize(imageDeletePoolSize);
+		executor.setQueueCapacity(imageDeleteQueueCapacity);
+		executor.setThreadNamePrefix("image-delete-");
+		executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+		executor.setTaskDecorator(mdcTaskDecorator);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+}
@@ -3,11 +3,18 @@ package onde.there.config;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class AwsS3Config {
@@ -21,12 +28,48 @@ public class AwsS3Config {
 	@Value("${cloud.aws.region.static}")
 	private String region;
 
+	// MinIO 등 S3 호환 저장소를 사용할 때만 지정
+	@Value("${cloud.aws.s3.endpoint:}")
+	private String endpoint;
+
+	@Value("${cloud.aws.s3.upload.threads:10}")
+	private int uploadThreads;
+
+	@Value("${cloud.aws.s3.upload.multipart-threshold:16777216}")
+	private long multipartUploadThreshold;
+
 	@Bean
-	public AmazonS3 amazonS3() {
+	public AmazonS3 amazonS3(MeterRegistry meterRegistry) {
 		AWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-		return AmazonS3ClientBuilder.standard()
-			.withRegion(region)
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
 			.withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+			.withRequestHandlers(new S3RequestMetrics(meterRegistry));
+
+		if (StringUtils.hasText(endpoint)) {
+			return builder
+				.withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+				.withPathStyleAccessEnabled(true)
+				.build();
+		}
+
+		return builder
+			.withRegion(region)
 			.build();
 	}
+
+	// shutdownNow() 는 함께 쓰는 AmazonS3 클라이언트까지 종료하므로 추론된 destroy 메서드를 끄고
+	// transferManagerShutdown 에서 스레드 풀만 종료한다. 클라이언트는 amazonS3 빈이 종료한다.
+	@Bean(destroyMethod = "")
+	public TransferManager transferManager(AmazonS3 amazonS3) {
+		return TransferManagerBuilder.standard()
+			.withS3Client(amazonS3)
+			.withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads))
+			.withMultipartUploadThreshold(multipartUploadThreshold)
+			.build();
+	}
+
+	@Bean
+	public DisposableBean transferManagerShutdown(TransferManager transferManager) {
+		return () -> transferManager.shutdownNow(false);
+	}
 }
@@ -0,0 +1,96 @@
+package onde.there.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * datasource.replica.url 이 있을 때만 primary, replica 두 Hikari 풀을 만들고
+ * readOnly 트랜잭션을 replica 로 보내는 DataSource 를 기본 DataSource 로 등록한다.
+ * 없으면 spring.datasource 하나만 사용하는 기본 설정 그대로 동작한다.
+ * <p>
+ * primary 풀은 spring.datasource(.hikari), replica 풀은 datasource.replica(.hikari) 설정을 사용한다.
+ * 두 풀 모두 빈으로 등록해 hikaricp.connections.* 지표가 pool 태그(primary, replica)로 따로 기록된다.
+ * replica 에서 읽은 엔티티가 2차 캐시에 들어가지 않도록 트랜잭션 매니저는 ReplicaAwareJpaTransactionManager 를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName(ReplicationRoutingDataSource.PRIMARY);
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		@Value("${datasource.replica.url}") String url,
+		@Value("${datasource.replica.username:}") String username,
+		@Value("${datasource.replica.password:}") String password) {
+		DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.url(url);
+		if (StringUtils.hasText(username)) {
+			builder.username(username).password(password);
+		}
+		HikariDataSource dataSource = builder.build();
+		dataSource.setPoolName(ReplicationRoutingDataSource.REPLICA);
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${datasource.replica.lag-query:SHOW SLAVE STATUS}") String lagQuery,
+		@Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+		@Value("${datasource.replica.lag-query-timeout-seconds:1}") int queryTimeoutSeconds,
+		MeterRegistry meterRegistry) {
+		JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		replicaJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+		return new ReplicaLagMonitor(replicaJdbcTemplate, lagQuery, maxLagSeconds,
+			meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+		return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(
+			primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+	}
+
+	// JpaBaseConfiguration 의 기본 트랜잭션 매니저 대신 등록한다
+	@Bean
+	public PlatformTransactionManager transactionManager(
+		ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+		JpaTransactionManager transactionManager = new ReplicaAwareJpaTransactionManager();
+		transactionManagerCustomizers.ifAvailable(
+			customizers -> customizers.customize(transactionManager));
+		return transactionManager;
+	}
+}
@@ -0,0 +1,95 @@
+package onde.there.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Member, Journey 엔티티용 Hibernate 2차 캐시 설정
+ * <p>
+ * 각 서버는 Caffeine 로컬 캐시를 사용하고, 엔티티가 수정/삭제되면 EntityCacheInvalidator 가
+ * Redis 채널로 다른 서버에 알려 해당 엔티티를 캐시에서 제거한다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+	public static final String MEMBER_REGION = "member";
+	public static final String JOURNEY_REGION = "journey";
+
+	private static final String[] REGIONS = {MEMBER_REGION, JOURNEY_REGION};
+
+	@Value("${cache.entity.ttl-minutes:10}")
+	private long ttlMinutes;
+
+	@Value("${cache.entity.maximum-size:10000}")
+	private long maximumSize;
+
+	// 기본 URI 의 CacheManager 는 JVM 전체에서 공유되어, 같은 JVM 에서 두 번째 ApplicationContext 가 뜨면
+	// (설정이 다른 @SpringBootTest 등) createCache 가 실패한다. 컨텍스트마다 URI 를 따로 쓰고 종료 시 닫는다.
+	@Bean(destroyMethod = "close")
+	public CacheManager entityCacheManager() {
+		CachingProvider cachingProvider = Caching.getCachingProvider(
+			CaffeineCachingProvider.class.getName());
+		CacheManager cacheManager = cachingProvider.getCacheManager(
+			URI.create("onde-there:entity-cache-" + UUID.randomUUID()),
+			getClass().getClassLoader());
+
+		for (String region : REGIONS) {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(maximumSize));
+			configuration.setExpireAfterWrite(
+				OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+			configuration.setStatisticsEnabled(true);
+			cacheManager.createCache(region, configuration);
+		}
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+		return properties -> {
+			properties.put("hibernate.cache.use_second_level_cache", true);
+			properties.put("hibernate.cache.region.factory_class", "jcache");
+			properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+			properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+		};
+	}
+
+	@Bean
+	public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+		return registry -> {
+			for (String region : REGIONS) {
+				JCacheMetrics.monitor(registry, entityCacheManager.getCache(region),
+					Tags.of("type", "entity"));
+			}
+		};
+	}
+
+	@Bean
+	public RedisMessageListenerContainer entityCacheListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		EntityCacheInvalidator entityCacheInvalidator) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(entityCacheInvalidator,
+			new ChannelTopic(EntityCacheInvalidator.CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,86 @@
+package onde.there.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onde.there.domain.Journey;
+import onde.there.domain.Member;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시에 올라간 엔티티가 바뀌면 커밋 이후 다른 서버에 알리고, 알림을 받은 서버는 자신의 캐시에서 제거한다.
+ * 메시지 형식 : {서버 id}:{region}:{엔티티 id}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidator implements MessageListener {
+
+	public static final String CHANNEL = "entity-cache-evict";
+
+	private static final String NODE_ID = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+	public void evictAfterCommit(Object entity) {
+		String message = toMessage(entity);
+		if (message == null) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						publish(message);
+					}
+				});
+		} else {
+			publish(message);
+		}
+	}
+
+	private void publish(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, NODE_ID + ":" + message);
+		} catch (DataAccessException e) {
+			log.error("entity cache evict publish 실패 ({})", message, e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+		if (body.length != 3 || NODE_ID.equals(body[0])) {
+			return;
+		}
+
+		if (EntityCacheConfig.MEMBER_REGION.equals(body[1])) {
+			entityManagerFactory.getObject().getCache().evict(Member.class, body[2]);
+		} else if (EntityCacheConfig.JOURNEY_REGION.equals(body[1])) {
+			entityManagerFactory.getObject().getCache()
+				.evict(Journey.class, Long.valueOf(body[2]));
+		}
+	}
+
+	private String toMessage(Object entity) {
+		if (entity instanceof Member) {
+			return EntityCacheConfig.MEMBER_REGION + ":" + ((Member) entity).getId();
+		}
+		if (entity instanceof Journey) {
+			return EntityCacheConfig.JOURNEY_REGION + ":" + ((Journey) entity).getId();
+		}
+		return null;
+	}
+}
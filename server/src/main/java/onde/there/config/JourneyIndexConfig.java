@@ -0,0 +1,28 @@
+package onde.there.config;
+
+import java.nio.charset.StandardCharsets;
+import onde.there.journey.service.JourneyIndexService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 서버가 보낸 여정 색인 갱신 메시지(journey-index 채널)를 JourneyIndexService 로 전달한다.
+ */
+@Configuration
+public class JourneyIndexConfig {
+
+	@Bean
+	public RedisMessageListenerContainer journeyIndexListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		JourneyIndexService journeyIndexService) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener((message, pattern) -> journeyIndexService.onMessage(
+				new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(JourneyIndexService.CHANNEL));
+		return container;
+	}
+}
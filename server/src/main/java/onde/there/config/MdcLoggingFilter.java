@@ -0,0 +1,47 @@
+package onde.there.config;
+
+import java.io.IOException;
+import java.util.UUID;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 requestId 를 MDC 에 넣어 한 요청에서 남긴 로그를 묶어 볼 수 있게 한다.
+ * 클라이언트가 X-Request-Id 헤더를 보내면 그 값을 사용하고, 응답 헤더로도 돌려준다.
+ * memberId 는 JwtAuthenticationFilter 가 인증 후에 넣는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MdcLoggingFilter extends OncePerRequestFilter {
+
+	public static final String REQUEST_ID_HEADER = "X-Request-Id";
+	public static final String REQUEST_ID = "requestId";
+	public static final String MEMBER_ID = "memberId";
+
+	private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		String requestId = request.getHeader(REQUEST_ID_HEADER);
+		if (!StringUtils.hasText(requestId) || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+			requestId = UUID.randomUUID().toString();
+		}
+
+		MDC.put(REQUEST_ID, requestId);
+		response.setHeader(REQUEST_ID_HEADER, requestId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.clear();
+		}
+	}
+}
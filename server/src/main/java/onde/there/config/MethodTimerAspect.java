@@ -0,0 +1,43 @@
+package onde.there.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러, 서비스, QueryDSL 커스텀 레포지토리 메서드의 실행 시간을 method.timed 타이머로 기록한다.
+ * 백분위(p50, p99)와 히스토그램은 application.yml 의 management.metrics.distribution 에서 설정한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimerAspect {
+
+	public static final String METRIC_NAME = "method.timed";
+
+	private final MeterRegistry meterRegistry;
+
+	@Around("within(onde.there..controller..*)"
+		+ " || within(onde.there..service..*)"
+		+ " || within(onde.there..repository.*Impl)")
+	public Object time(ProceedingJoinPoint pjp) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String exception = "none";
+		try {
+			return pjp.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+				.tag("class", pjp.getSignature().getDeclaringType().getSimpleName())
+				.tag("method", pjp.getSignature().getName())
+				.tag("exception", exception)
+				.register(meterRegistry));
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package onde.there.config;
+
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 메서드 타이머(MethodTimerAspect), S3 요청 수(S3RequestMetrics) 외에 Redis 명령, 요청당 SQL 수를
+ * Micrometer 로 기록한다. 수집한 값은 /actuator/prometheus 로 노출된다.
+ */
+@Configuration
+public class MetricsConfig {
+
+	// Redis 명령별 lettuce.command.completion, lettuce.command.firstresponse 타이머
+	@Bean
+	public ClientResourcesBuilderCustomizer redisCommandMetricsCustomizer(
+		MeterRegistry meterRegistry) {
+		return builder -> builder.commandLatencyRecorder(
+			new MicrometerCommandLatencyRecorder(meterRegistry, MicrometerOptions.create()));
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer statementCountCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+			new StatementCountInspector());
+	}
+
+	@Bean
+	public FilterRegistrationBean<StatementCountFilter> statementCountFilter(
+		MeterRegistry meterRegistry) {
+		FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(
+			new StatementCountFilter(meterRegistry));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
@@ -0,0 +1,44 @@
+package onde.there.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica 에서 읽으므로(ReplicationRoutingDataSource) 최대 max-lag-seconds 만큼
+ * 오래된 엔티티를 읽을 수 있다. 이 엔티티가 2차 캐시(EntityCacheConfig)에 들어가면 TTL 동안 남으므로,
+ * readOnly 트랜잭션에서는 캐시를 읽기만 하고(CacheMode.GET) 채우지 않는다.
+ * <p>
+ * OSIV 로 세션이 요청 끝까지 이어지므로 트랜잭션이 끝나면 CacheMode.NORMAL 로 되돌린다.
+ */
+public class ReplicaAwareJpaTransactionManager extends JpaTransactionManager {
+
+	@Override
+	protected void doBegin(Object transaction, TransactionDefinition definition) {
+		super.doBegin(transaction, definition);
+		if (definition.isReadOnly()) {
+			Session session = currentSession();
+			if (session != null) {
+				session.setCacheMode(CacheMode.GET);
+			}
+		}
+	}
+
+	@Override
+	protected void doCleanupAfterCompletion(Object transaction) {
+		Session session = currentSession();
+		if (session != null && session.isOpen() && session.getCacheMode() == CacheMode.GET) {
+			session.setCacheMode(CacheMode.NORMAL);
+		}
+		super.doCleanupAfterCompletion(transaction);
+	}
+
+	private Session currentSession() {
+		EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+			.getResource(obtainEntityManagerFactory());
+		return holder == null ? null : holder.getEntityManager().unwrap(Session.class);
+	}
+}
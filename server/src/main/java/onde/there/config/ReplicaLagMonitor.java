@@ -0,0 +1,84 @@
+package onde.there.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * lag-query (기본 SHOW SLAVE STATUS) 의 Seconds_Behind_Master 로 replica 의 복제 지연을 주기적으로 확인한다.
+ * <p>
+ * 지연이 maxLagSeconds 이하일 때만 replica 를 사용할 수 있다고 본다. 복제가 멈춰 값이 null 이거나
+ * 조회에 실패하면 사용할 수 없다고 본다. 결과 행이 없거나(복제 설정이 없는 로컬 DB) lag-query 가 비어 있으면
+ * 지연을 0 으로 본다. 첫 확인 전에는 사용할 수 없다고 본다.
+ * 지연(초, 모르면 -1)과 사용 가능 여부를 datasource.replica.lag, datasource.replica.available 로 기록한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final String lagQuery;
+	private final long maxLagSeconds;
+
+	private volatile boolean available = false;
+	private volatile long lagSeconds = -1;
+
+	public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery,
+		long maxLagSeconds, MeterRegistry meterRegistry) {
+		this.replicaJdbcTemplate = replicaJdbcTemplate;
+		this.lagQuery = lagQuery;
+		this.maxLagSeconds = maxLagSeconds;
+
+		Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+	public void check() {
+		Long lag;
+		try {
+			lag = queryLag();
+		} catch (DataAccessException e) {
+			log.error("check : replica 복제 지연 확인 실패", e);
+			lag = null;
+		}
+
+		boolean wasAvailable = available;
+		lagSeconds = lag == null ? -1 : lag;
+		available = lag != null && lag <= maxLagSeconds;
+
+		if (wasAvailable != available) {
+			log.warn("check : replica 사용 {} (복제 지연 : {}초, 최대 : {}초)",
+				available ? "시작" : "중단", lagSeconds, maxLagSeconds);
+		}
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	private Long queryLag() {
+		if (lagQuery == null || lagQuery.isBlank()) {
+			// 연결만 확인한다
+			replicaJdbcTemplate.execute("select 1");
+			return 0L;
+		}
+
+		List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList(lagQuery);
+		if (rows.isEmpty()) {
+			return 0L;
+		}
+		Object lag = rows.get(0).get(LAG_COLUMN);
+		// 드라이버에 따라 숫자나 문자열로 온다
+		return lag == null ? null : Long.valueOf(lag.toString());
+	}
+}
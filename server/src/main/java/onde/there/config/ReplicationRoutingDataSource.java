@@ -0,0 +1,66 @@
+package onde.there.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 나머지(쓰기 트랜잭션, 트랜잭션 밖)는 primary 로 보낸다.
+ * replica 가 max-lag-seconds 보다 뒤처졌거나 확인에 실패하면(ReplicaLagMonitor) readOnly 트랜잭션도 primary 로 보낸다.
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 TransactionSynchronizationManager 에 없으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 때 커넥션을 고르게 해야 한다.
+ * 선택 결과는 datasource.routing (target, readOnly 태그) 카운터로 기록한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String METRIC_NAME = "datasource.routing";
+
+	static final String PRIMARY = "primary";
+	static final String REPLICA = "replica";
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+	private final Counter primaryCounter;
+	private final Counter replicaCounter;
+	private final Counter fallbackCounter;
+
+	public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+		ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		this.primaryCounter = counter(meterRegistry, PRIMARY, false);
+		this.replicaCounter = counter(meterRegistry, REPLICA, true);
+		this.fallbackCounter = counter(meterRegistry, PRIMARY, true);
+
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(PRIMARY, primary);
+		targetDataSources.put(REPLICA, replica);
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			primaryCounter.increment();
+			return PRIMARY;
+		}
+		if (!replicaLagMonitor.isAvailable()) {
+			fallbackCounter.increment();
+			return PRIMARY;
+		}
+		replicaCounter.increment();
+		return REPLICA;
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String target, boolean readOnly) {
+		return Counter.builder(METRIC_NAME)
+			.tag("target", target)
+			.tag("readOnly", String.valueOf(readOnly))
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,46 @@
+package onde.there.config;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.RequestHandler2;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AmazonS3 클라이언트가 보내는 요청 수를 종류(PutObject, DeleteObjects 등)와 결과별로 센다.
+ * TransferManager, 리사이즈 작업을 포함해 이 클라이언트를 쓰는 모든 요청이 집계된다.
+ */
+public class S3RequestMetrics extends RequestHandler2 {
+
+	private static final String METRIC_NAME = "s3.requests";
+
+	private final MeterRegistry meterRegistry;
+
+	public S3RequestMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void afterResponse(Request<?> request, Response<?> response) {
+		count(request, "success");
+	}
+
+	@Override
+	public void afterError(Request<?> request, Response<?> response, Exception e) {
+		count(request, "error");
+	}
+
+	private void count(Request<?> request, String result) {
+		Counter.builder(METRIC_NAME)
+			.tag("operation", operation(request))
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private String operation(Request<?> request) {
+		String name = request.getOriginalRequest().getClass().getSimpleName();
+		return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length())
+			: name;
+	}
+}
@@ -0,0 +1,40 @@
+package onde.there.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+
+/**
+ * loggerPrefix 로 시작하는 로거의 INFO 이하 로그를 rate 개 중 1 개만 남긴다. WARN 이상은 모두 남긴다.
+ * 메시지를 만들기 전에 걸러지므로 버려지는 로그는 포맷팅 비용이 들지 않는다.
+ * 설정은 logback-spring.xml 에서 한다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	private final AtomicLong count = new AtomicLong();
+
+	private String loggerPrefix;
+	private int rate = 1;
+
+	public void setLoggerPrefix(String loggerPrefix) {
+		this.loggerPrefix = loggerPrefix;
+	}
+
+	public void setRate(int rate) {
+		this.rate = Math.max(rate, 1);
+	}
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+		Object[] params, Throwable t) {
+		// format 이 null 이면 isInfoEnabled() 같은 레벨 확인 호출이므로 세지 않는다
+		if (format == null || rate == 1 || level.isGreaterOrEqual(Level.WARN)
+			|| !logger.getName().startsWith(loggerPrefix)) {
+			return FilterReply.NEUTRAL;
+		}
+		return count.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+	}
+}
@@ -0,0 +1,42 @@
+package onde.there.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나에서 실행된 SQL 수를 hibernate.statements.per.request 로 기록한다.
+ * N+1 처럼 요청당 쿼리 수가 늘어나는 변경을 찾기 위해 사용한다.
+ */
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_NAME = "hibernate.statements.per.request";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		StatementCountInspector.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			int count = StatementCountInspector.finish();
+			Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder(METRIC_NAME)
+				.baseUnit("statements")
+				.tag("method", request.getMethod())
+				.tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+				.register(meterRegistry)
+				.record(count);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package onde.there.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수를 센다. StatementCountFilter 가 요청 시작 시 start, 끝날 때 finish 를
+ * 호출하며, 요청 밖(스케줄러, 비동기 작업)에서 실행된 SQL 은 세지 않는다.
+ */
+public class StatementCountInspector implements StatementInspector {
+
+	private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+	public static void start() {
+		COUNT.set(new int[1]);
+	}
+
+	public static int finish() {
+		int[] count = COUNT.get();
+		COUNT.remove();
+		return count == null ? 0 : count[0];
+	}
+
+	@Override
+	public String inspect(String sql) {
+		int[] count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+		return sql;
+	}
+}
@@ -3,27 +3,43 @@ package onde.there.domain;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import onde.there.config.EntityCacheConfig;
+import onde.there.domain.listener.EntityCacheEvictionListener;
 import onde.there.domain.type.JourneyThemeType;
 import onde.there.domain.type.RegionType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "journey")
+@Table(indexes = {
+	@Index(name = "idx_journey_member_id", columnList = "member_id, journey_id"),
+	@Index(name = "idx_journey_disclosure_region", columnList = "disclosure, region, journey_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.JOURNEY_REGION)
+@EntityListeners(EntityCacheEvictionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +68,10 @@ public class Journey {
 	@Column(name = "journey_thumbnail_url")
 	private String journeyThumbnailUrl;
 
+	// 썸네일의 리사이즈 이미지(ImageVariantType)가 모두 저장되었는지
+	@Column(name = "journey_thumbnail_variant_ready")
+	private boolean journeyThumbnailVariantReady;
+
 	@Column(name = "disclosure")
 	private String disclosure;
 
@@ -68,4 +88,25 @@ public class Journey {
 	@OneToMany(mappedBy = "journey")
 	private List<JourneyTheme> journeyThemes = new ArrayList<>();
 
+	// 테마 집합 비트마스크 (JourneyThemeType.toMask), null 이면 아직 채워지지 않은 여정
+	@Column(name = "theme_mask")
+	private Integer themeMask;
+
+	/**
+	 * themeMask 가 있으면 journey_theme 조회 없이 테마를 구하고, 없으면 journeyThemes 를 읽는다.
+	 */
+	public List<JourneyThemeType> themeTypes() {
+		if (themeMask != null) {
+			return new ArrayList<>(JourneyThemeType.fromMask(themeMask));
+		}
+		return journeyThemes.stream()
+			.map(JourneyTheme::getJourneyThemeName)
+			.collect(Collectors.toList());
+	}
+
+	public List<String> themeNames() {
+		return themeTypes().stream()
+			.map(JourneyThemeType::getThemeName)
+			.collect(Collectors.toList());
+	}
 }
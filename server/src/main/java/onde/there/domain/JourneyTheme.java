@@ -10,6 +10,8 @@ import javax.persistence.*;
 import onde.there.domain.type.JourneyThemeType;
 
 @Entity(name = "journey_theme")
+@Table(indexes = @Index(name = "idx_journey_theme_journey_id_name",
+        columnList = "journey_id, journey_theme_name"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,7 +2,11 @@ package onde.there.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.*;
+import onde.there.config.EntityCacheConfig;
+import onde.there.domain.listener.EntityCacheEvictionListener;
 import onde.there.dto.member.MemberDto;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -18,6 +22,9 @@ import java.util.HashSet;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.MEMBER_REGION)
+@EntityListeners(EntityCacheEvictionListener.class)
 public class Member implements UserDetails {
     @Id
     @Column(name = "member_id")
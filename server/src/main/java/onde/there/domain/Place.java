@@ -11,9 +11,13 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +25,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import onde.there.domain.type.PlaceCategoryType;
+import onde.there.place.utils.GeoHash;
 import org.hibernate.annotations.BatchSize;
 
 @Builder
@@ -30,6 +35,7 @@ import org.hibernate.annotations.BatchSize;
 @Getter
 @Entity
 @ToString
+@Table(indexes = @Index(name = "idx_place_geohash", columnList = "geohash"))
 public class Place {
 
 	@Id
@@ -40,6 +46,10 @@ public class Place {
 	private Double latitude;
 	private Double longitude;
 
+	// 위도, 경도로 계산한 geohash, 주변 장소 검색에 사용
+	@Column(length = GeoHash.MAX_PRECISION)
+	private String geohash;
+
 	private String title;
 
 	@Column(length = 1010)
@@ -67,6 +77,9 @@ public class Place {
 
 	private long placeHeartCount;
 
+	// 댓글 수, null 이면 아직 집계되지 않은 장소
+	private Long commentCount;
+
 	@BatchSize(size = 10)
 	@OneToMany(mappedBy = "place")
 	private List<PlaceImage> placeImages = new ArrayList<>();
@@ -77,4 +90,11 @@ public class Place {
 			placeImage.setPlace(this);
 		}
 	}
+
+	@PrePersist
+	@PreUpdate
+	public void updateGeohash() {
+		this.geohash = latitude == null || longitude == null ? null
+			: GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+	}
 }
@@ -11,6 +11,8 @@ import javax.persistence.*;
 @ToString
 @Builder
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_place_heart_place_member",
+        columnNames = {"place_id", "member_id"}))
 public class PlaceHeart {
 
     @Id
@@ -30,6 +30,10 @@ public class PlaceImage {
 
     private String url;
 
+    // 리사이즈 이미지(ImageVariantType)가 모두 저장되었는지
+    @Column(name = "variant_ready")
+    private boolean variantReady;
+
     @Builder
     public PlaceImage(Place place, String imageUrl) {
         this.place = place;
@@ -0,0 +1,21 @@
+package onde.there.domain.listener;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import onde.there.config.EntityCacheInvalidator;
+
+/**
+ * 2차 캐시 대상 엔티티의 수정/삭제를 다른 서버의 캐시에 전파한다.
+ */
+@RequiredArgsConstructor
+public class EntityCacheEvictionListener {
+
+	private final EntityCacheInvalidator entityCacheInvalidator;
+
+	@PostUpdate
+	@PostRemove
+	public void evict(Object entity) {
+		entityCacheInvalidator.evictAfterCommit(entity);
+	}
+}
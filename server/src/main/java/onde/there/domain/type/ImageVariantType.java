@@ -0,0 +1,47 @@
+package onde.there.domain.type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariantType {
+
+	SMALL("w160", 160),
+	MEDIUM("w480", 480),
+	LARGE("w1080", 1080),
+	;
+
+	private static final String VARIANT_EXTENSION = ".jpg";
+
+	private final String suffix;
+	private final int width;
+
+	/**
+	 * 원본 파일 이름(또는 url)으로부터 리사이즈 이미지 이름을 만든다.
+	 * ex) abc.png -> abc_w160.jpg
+	 */
+	public String toVariantName(String original) {
+		int extensionIndex = original.lastIndexOf('.');
+		int pathIndex = original.lastIndexOf('/');
+		String baseName = extensionIndex > pathIndex ? original.substring(0, extensionIndex)
+			: original;
+		return baseName + "_" + suffix + VARIANT_EXTENSION;
+	}
+
+	/**
+	 * 리사이즈 이미지가 아직 없거나 만들지 못했으면(variantReady = false) 빈 Map 을 돌려준다.
+	 */
+	public static Map<String, String> toVariantUrls(String originalUrl, boolean variantReady) {
+		Map<String, String> variantUrls = new LinkedHashMap<>();
+		if (originalUrl == null || !variantReady) {
+			return variantUrls;
+		}
+		for (ImageVariantType variant : values()) {
+			variantUrls.put(variant.getSuffix(), variant.toVariantName(originalUrl));
+		}
+		return variantUrls;
+	}
+}
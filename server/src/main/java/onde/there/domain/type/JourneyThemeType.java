@@ -1,11 +1,18 @@
 package onde.there.domain.type;
 
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import onde.there.journey.exception.JourneyErrorCode;
 import onde.there.journey.exception.JourneyException;
 
+/**
+ * 테마 집합은 Journey.themeMask 에 ordinal 비트로 저장되므로 새 테마는 항상 맨 뒤에 추가해야 한다.
+ */
 @RequiredArgsConstructor
 @Getter
 public enum JourneyThemeType {
@@ -21,13 +28,49 @@ public enum JourneyThemeType {
 	ECT("기타"),
 	EMPTY("없음");
 
+	private static final Map<String, JourneyThemeType> BY_THEME_NAME;
+
+	static {
+		Map<String, JourneyThemeType> byThemeName = new HashMap<>();
+		for (JourneyThemeType type : values()) {
+			byThemeName.put(type.getThemeName(), type);
+		}
+		BY_THEME_NAME = Collections.unmodifiableMap(byThemeName);
+	}
+
 	private final String themeName;
 
 	public static JourneyThemeType findByTheme(String input) {
-		return Arrays.stream(JourneyThemeType.values())
-			.filter(type -> type.getThemeName().equals(input))
-			.findAny()
-			.orElseThrow(() -> new JourneyException(
-				JourneyErrorCode.THERE_IS_NO_MATCHING_THEME));
+		JourneyThemeType type = input == null ? null : BY_THEME_NAME.get(input);
+		if (type == null) {
+			throw new JourneyException(JourneyErrorCode.THERE_IS_NO_MATCHING_THEME);
+		}
+		return type;
+	}
+
+	public static EnumSet<JourneyThemeType> findAllByTheme(Collection<String> inputs) {
+		EnumSet<JourneyThemeType> types = EnumSet.noneOf(JourneyThemeType.class);
+		for (String input : inputs) {
+			types.add(findByTheme(input));
+		}
+		return types;
+	}
+
+	public static int toMask(Collection<JourneyThemeType> types) {
+		int mask = 0;
+		for (JourneyThemeType type : types) {
+			mask |= 1 << type.ordinal();
+		}
+		return mask;
+	}
+
+	public static EnumSet<JourneyThemeType> fromMask(int mask) {
+		EnumSet<JourneyThemeType> types = EnumSet.noneOf(JourneyThemeType.class);
+		for (JourneyThemeType type : values()) {
+			if ((mask & (1 << type.ordinal())) != 0) {
+				types.add(type);
+			}
+		}
+		return types;
 	}
 }
@@ -1,6 +1,8 @@
 package onde.there.domain.type;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import onde.there.place.exception.PlaceErrorCode;
@@ -24,11 +26,23 @@ public enum PlaceCategoryType {
 	KIDS("키즈"),
 	ECT("기타"),
 	;
+	private static final Map<String, PlaceCategoryType> BY_DESCRIPTION;
+
+	static {
+		Map<String, PlaceCategoryType> byDescription = new HashMap<>();
+		for (PlaceCategoryType type : values()) {
+			byDescription.put(type.getDescription(), type);
+		}
+		BY_DESCRIPTION = Collections.unmodifiableMap(byDescription);
+	}
+
 	private final String description;
 
 	public static PlaceCategoryType toPlaceCategoryType(String s) {
-		return Arrays.stream(PlaceCategoryType.values())
-			.filter(x -> s.equals(x.getDescription())).findFirst()
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.MISMATCH_PLACE_CATEGORY_TYPE));
+		PlaceCategoryType type = BY_DESCRIPTION.get(s);
+		if (type == null) {
+			throw new PlaceException(PlaceErrorCode.MISMATCH_PLACE_CATEGORY_TYPE);
+		}
+		return type;
 	}
 }
@@ -1,6 +1,8 @@
 package onde.there.domain.type;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -30,13 +32,23 @@ public enum RegionType {
 	JEJU("제주");
 
 
+	private static final Map<String, RegionType> BY_REGION_NAME;
+
+	static {
+		Map<String, RegionType> byRegionName = new HashMap<>();
+		for (RegionType type : values()) {
+			byRegionName.put(type.getRegionName(), type);
+		}
+		BY_REGION_NAME = Collections.unmodifiableMap(byRegionName);
+	}
+
 	private String regionName;
 
 	public static RegionType findByRegion(String input) {
-		return Arrays.stream(RegionType.values())
-			.filter(type -> type.getRegionName().equals(input))
-			.findAny()
-			.orElseThrow(() -> new JourneyException(
-				JourneyErrorCode.NO_REGION_MATCHES));
+		RegionType type = input == null ? null : BY_REGION_NAME.get(input);
+		if (type == null) {
+			throw new JourneyException(JourneyErrorCode.NO_REGION_MATCHES);
+		}
+		return type;
 	}
 }
@@ -1,6 +1,7 @@
 package onde.there.dto.comment;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,4 +48,25 @@ public class CommentDto {
 		private String text;
 
 	}
+
+	@Schema(name = "댓글 목록 조회 결과")
+	@Builder
+	@Getter
+	@AllArgsConstructor
+	public static class SliceResponse {
+
+		private List<Response> content;
+
+		@Schema(description = "다음 댓글 존재 여부")
+		private boolean hasNext;
+
+		@Schema(description = "마지막 페이지 여부")
+		private boolean last;
+
+		@Schema(description = "다음 조회 시 lastCommentId 로 전달할 값")
+		private Long lastCommentId;
+
+		@Schema(description = "장소의 전체 댓글 수")
+		private long totalElements;
+	}
 }
@@ -3,7 +3,7 @@ package onde.there.dto.journy;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +11,7 @@ import lombok.Setter;
 import onde.there.domain.Journey;
 import onde.there.domain.JourneyBookmark;
 import onde.there.domain.Member;
+import onde.there.domain.type.ImageVariantType;
 import onde.there.domain.type.RegionType;
 
 @Getter
@@ -35,8 +36,10 @@ public class JourneyBookmarkDto {
 		private String introductionText;
 		private String region;
 		private String journeyThumbnailUrl;
+		private Map<String, String> journeyThumbnailVariantUrls;
 
-		public static JourneyBookmarkPageResponse fromEntity(JourneyBookmark journeyBookmark) {
+		public static JourneyBookmarkPageResponse fromEntity(JourneyBookmark journeyBookmark,
+			List<String> journeyThemes) {
 			Journey journey = journeyBookmark.getJourney();
 			Member member = journeyBookmark.getMember();
 			return JourneyBookmarkPageResponse.builder()
@@ -48,12 +51,13 @@ public class JourneyBookmarkDto {
 				.endDate(journey.getEndDate())
 				.numberOfPeople(journey.getNumberOfPeople())
 				.disclosure(journey.getDisclosure())
-				.journeyThemes(journey.getJourneyThemes().stream()
-					.map(jt -> jt.getJourneyThemeName().getThemeName()).collect(
-						Collectors.toList()))
+				.journeyThemes(journeyThemes)
 				.introductionText(journey.getIntroductionText())
 				.region(journey.getRegion().getRegionName())
 				.journeyThumbnailUrl(journey.getJourneyThumbnailUrl())
+				.journeyThumbnailVariantUrls(
+					ImageVariantType.toVariantUrls(journey.getJourneyThumbnailUrl(),
+						journey.isJourneyThumbnailVariantReady()))
 				.build();
 		}
 	}
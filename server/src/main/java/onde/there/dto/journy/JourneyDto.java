@@ -3,7 +3,7 @@ package onde.there.dto.journy;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -13,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import onde.there.domain.Journey;
+import onde.there.domain.type.ImageVariantType;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 
@@ -125,6 +126,7 @@ public class JourneyDto {
 		private String introductionText;
 		private String region;
 		private String journeyThumbnailUrl;
+		private Map<String, String> journeyThumbnailVariantUrls;
 
 		public static JourneyDto.JourneyListResponse fromEntity(Journey journey,
 			List<String> journeyThemes) {
@@ -140,11 +142,32 @@ public class JourneyDto {
 				.introductionText(journey.getIntroductionText())
 				.region(journey.getRegion().getRegionName())
 				.journeyThumbnailUrl(journey.getJourneyThumbnailUrl())
+				.journeyThumbnailVariantUrls(
+					ImageVariantType.toVariantUrls(journey.getJourneyThumbnailUrl(),
+						journey.isJourneyThumbnailVariantReady()))
 				.build();
 		}
 
 	}
 
+	@Setter
+	@Getter
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Schema(name = "공개 여정 피드 응답")
+	public static class JourneyFeedResponse {
+
+		@Schema(description = "조회한 여정 목록")
+		private List<JourneyListResponse> content;
+
+		@Schema(description = "다음 페이지 조회 시 cursor 로 전달할 값 (마지막 여정 id)")
+		private Long nextCursor;
+
+		@Schema(description = "다음 페이지 존재 여부")
+		private boolean hasNext;
+	}
+
 	@Setter
 	@Getter
 	@AllArgsConstructor
@@ -309,11 +332,13 @@ public class JourneyDto {
 		private String disclosure;
 		private String introductionText;
 		private String journeyThumbnailUrl;
+		private Map<String, String> journeyThumbnailVariantUrls;
 		private List<String> journeyThemes;
 		private String region;
 
 
-		public static JourneyDto.FilteringResponse fromEntity(Journey journey) {
+		public static JourneyDto.FilteringResponse fromEntity(Journey journey,
+			List<String> journeyThemes) {
 			return FilteringResponse.builder()
 				.journeyId(journey.getId())
 				.nickName(journey.getMember().getNickName())
@@ -322,12 +347,13 @@ public class JourneyDto {
 				.endDate(journey.getEndDate())
 				.numberOfPeople(journey.getNumberOfPeople())
 				.disclosure(journey.getDisclosure())
-				.journeyThemes(journey.getJourneyThemes().stream()
-					.map(i -> i.getJourneyThemeName().getThemeName()).collect(
-						Collectors.toList()))
+				.journeyThemes(journeyThemes)
 				.introductionText(journey.getIntroductionText())
 				.region(journey.getRegion().getRegionName())
 				.journeyThumbnailUrl(journey.getJourneyThumbnailUrl())
+				.journeyThumbnailVariantUrls(
+					ImageVariantType.toVariantUrls(journey.getJourneyThumbnailUrl(),
+						journey.isJourneyThumbnailVariantReady()))
 				.build();
 		}
 	}
@@ -348,11 +374,13 @@ public class JourneyDto {
 		private String disclosure;
 		private String introductionText;
 		private String journeyThumbnailUrl;
+		private Map<String, String> journeyThumbnailVariantUrls;
 		private List<String> journeyThemes;
 		private String region;
 
 
-		public static JourneyDto.MyListResponse fromEntity(Journey journey) {
+		public static JourneyDto.MyListResponse fromEntity(Journey journey,
+			List<String> journeyThemes) {
 			return MyListResponse.builder()
 				.journeyId(journey.getId())
 				.nickName(journey.getMember().getNickName())
@@ -361,12 +389,13 @@ public class JourneyDto {
 				.endDate(journey.getEndDate())
 				.numberOfPeople(journey.getNumberOfPeople())
 				.disclosure(journey.getDisclosure())
-				.journeyThemes(journey.getJourneyThemes().stream()
-					.map(i -> i.getJourneyThemeName().getThemeName()).collect(
-						Collectors.toList()))
+				.journeyThemes(journeyThemes)
 				.introductionText(journey.getIntroductionText())
 				.region(journey.getRegion().getRegionName())
 				.journeyThumbnailUrl(journey.getJourneyThumbnailUrl())
+				.journeyThumbnailVariantUrls(
+					ImageVariantType.toVariantUrls(journey.getJourneyThumbnailUrl(),
+						journey.isJourneyThumbnailVariantReady()))
 				.build();
 		}
 	}
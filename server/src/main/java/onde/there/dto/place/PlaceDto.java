@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -17,6 +18,7 @@ import lombok.Setter;
 import lombok.ToString;
 import onde.there.domain.Place;
 import onde.there.domain.PlaceImage;
+import onde.there.domain.type.ImageVariantType;
 import onde.there.domain.type.PlaceCategoryType;
 
 @Getter
@@ -165,6 +167,9 @@ public class PlaceDto {
 
 		private List<String> imageUrls = new ArrayList<>();
 
+		@Schema(description = "imageUrls 와 같은 순서의 리사이즈 이미지 url (w160, w480, w1080)")
+		private List<Map<String, String>> imageVariantUrls = new ArrayList<>();
+
 		public static Response toResponse(Place place) {
 			return Response.builder()
 				.placeId(place.getId())
@@ -187,6 +192,10 @@ public class PlaceDto {
 				.journeyId(place.getJourney().getId())
 				.imageUrls(place.getPlaceImages()
 					.stream().map(PlaceImage::getUrl).collect(Collectors.toList()))
+				.imageVariantUrls(place.getPlaceImages()
+					.stream().map(placeImage -> ImageVariantType.toVariantUrls(placeImage.getUrl(),
+						placeImage.isVariantReady()))
+					.collect(Collectors.toList()))
 				.build();
 		}
 
@@ -194,4 +203,45 @@ public class PlaceDto {
 			return list.stream().map(Response::toResponse).collect(Collectors.toList());
 		}
 	}
+
+	@Getter
+	@Setter
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@ToString
+	@Builder
+	@Schema(name = "주변 장소 조회시 반환되는 response")
+	public static class NearbyResponse {
+
+		private Long placeId;
+		private Long journeyId;
+		private String title;
+		private String placeName;
+		private String addressName;
+		private Double latitude;
+		private Double longitude;
+		private String placeCategory;
+
+		@Schema(description = "대표 이미지 url")
+		private String imageUrl;
+
+		@Schema(description = "기준 위치에서의 거리 (m)")
+		private long distance;
+
+		public static NearbyResponse toResponse(Place place, double distance) {
+			return NearbyResponse.builder()
+				.placeId(place.getId())
+				.journeyId(place.getJourney().getId())
+				.title(place.getTitle())
+				.placeName(place.getPlaceName())
+				.addressName(place.getAddressName())
+				.latitude(place.getLatitude())
+				.longitude(place.getLongitude())
+				.placeCategory(place.getPlaceCategory().getDescription())
+				.imageUrl(place.getPlaceImages().isEmpty() ? null
+					: place.getPlaceImages().get(0).getUrl())
+				.distance(Math.round(distance))
+				.build();
+		}
+	}
 }
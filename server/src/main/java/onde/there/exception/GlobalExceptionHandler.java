@@ -45,6 +45,9 @@ public class GlobalExceptionHandler {
 		if (errorResponse.getErrorCode() == MemberErrorCode.AUTHORITY_ERROR) {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
 		}
+		if (errorResponse.getErrorCode() == MemberErrorCode.MAIL_QUEUE_FULL) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+		}
 		return ResponseEntity.badRequest().body(errorResponse);
 	}
 
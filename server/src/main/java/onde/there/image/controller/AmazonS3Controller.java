@@ -6,15 +6,18 @@ import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import onde.there.image.service.AwsS3Service;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -46,11 +49,13 @@ public class AmazonS3Controller {
 		return ResponseEntity.ok(awsS3Service.findImageUrls(id));
 	}
 
-	@Operation(summary = "Amazon S3에 업로드 된 파일을 이미지 URL 로 조회", description = "Amazon S3에 업로드 된 파일을 이미지 URL 로 조회")
+	@Operation(summary = "Amazon S3에 업로드 된 파일을 이미지 URL 로 조회",
+		description = "Amazon S3에 업로드 된 파일을 이미지 URL 로 조회 (Range, If-None-Match 지원)")
 	@GetMapping("/file")
-	public ResponseEntity<byte[]> findFileList(
-		@Parameter(description = "장소 이미지 url", required = true) @RequestParam String imageUrl
+	public ResponseEntity<StreamingResponseBody> findFileList(
+		@Parameter(description = "장소 이미지 url", required = true) @RequestParam String imageUrl,
+		@Parameter(hidden = true) @RequestHeader HttpHeaders headers
 	) throws IOException {
-		return awsS3Service.getImageFiles(imageUrl);
+		return awsS3Service.getImageFile(imageUrl, headers);
 	}
 }
@@ -0,0 +1,15 @@
+package onde.there.image.event;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 에서 지운 이미지 url 목록, 트랜잭션이 커밋된 뒤에 S3 에서 삭제한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageDeleteEvent {
+
+	private final List<String> imageUrls;
+}
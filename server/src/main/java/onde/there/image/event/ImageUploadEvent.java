@@ -0,0 +1,16 @@
+package onde.there.image.event;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 에 저장한 업로드 이미지 url 목록, 트랜잭션이 커밋된 뒤에 리사이즈 이미지를 만든다.
+ * 롤백되면 발행되지 않으므로 업로드를 되돌린 이미지는 리사이즈하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageUploadEvent {
+
+	private final List<String> imageUrls;
+}
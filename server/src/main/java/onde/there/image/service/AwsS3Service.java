@@ -1,44 +1,69 @@
 package onde.there.image.service;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
-import com.amazonaws.util.IOUtils;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import onde.there.config.AsyncConfig;
 import onde.there.domain.Place;
+import onde.there.domain.type.ImageVariantType;
 import onde.there.image.exception.ImageErrorCode;
+import onde.there.image.event.ImageDeleteEvent;
 import onde.there.image.exception.ImageException;
 import onde.there.place.exception.PlaceErrorCode;
 import onde.there.place.exception.PlaceException;
 import onde.there.place.repository.PlaceImageRepository;
 import onde.there.place.repository.PlaceRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AwsS3Service {
 
+	private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS)
+		.cachePublic();
+
+	// DeleteObjectsRequest 한 번에 지울 수 있는 최대 키 수
+	private static final int DELETE_OBJECTS_LIMIT = 1000;
+
 	private final AmazonS3 amazonS3;
+	private final TransferManager transferManager;
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
 
@@ -48,52 +73,139 @@ public class AwsS3Service {
 	private final PlaceRepository placeRepository;
 	private final PlaceImageRepository placeImageRepository;
 
-	@Transactional
 	public List<String> uploadFiles(List<MultipartFile> multipartFiles) {
-		log.info("이미지 S3에 저장 시작! (이미지 파일 갯수 : " + multipartFiles.size() + ")");
-		List<String> urlList = new ArrayList<>();
+		log.info("이미지 S3에 저장 시작! (이미지 파일 갯수 : {})", multipartFiles.size());
 		if (multipartFiles.isEmpty()) {
 			throw new ImageException(ImageErrorCode.EMPTY_FILE);
 		}
-		multipartFiles.forEach(file -> {
-			String fileName = createFileName(file.getOriginalFilename());
-			log.info(fileName + " 서버에 저장 시작");
-			ObjectMetadata objectMetadata = new ObjectMetadata();
-			objectMetadata.setContentLength(file.getSize());
-			objectMetadata.setContentType(file.getContentType());
-
-			try (InputStream inputStream = file.getInputStream()) {
-				amazonS3.putObject(
-					new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-						.withCannedAcl(CannedAccessControlList.PublicRead));
-			} catch (IOException e) {
-				log.info(fileName + " 서버에 저장 실패");
-				throw new ImageException(ImageErrorCode.FAILED_UPLOAD);
+
+		List<String> fileNames = new ArrayList<>();
+		for (MultipartFile file : multipartFiles) {
+			fileNames.add(createFileName(file.getOriginalFilename()));
+		}
+
+		List<Upload> uploads = new ArrayList<>();
+		List<InputStream> inputStreams = new ArrayList<>();
+		try {
+			for (int i = 0; i < multipartFiles.size(); i++) {
+				MultipartFile file = multipartFiles.get(i);
+				log.info("{} 서버에 저장 시작", fileNames.get(i));
+				ObjectMetadata objectMetadata = new ObjectMetadata();
+				objectMetadata.setContentLength(file.getSize());
+				objectMetadata.setContentType(file.getContentType());
+
+				InputStream inputStream = file.getInputStream();
+				inputStreams.add(inputStream);
+				uploads.add(transferManager.upload(
+					new PutObjectRequest(bucket, fileNames.get(i), inputStream, objectMetadata)
+						.withCannedAcl(CannedAccessControlList.PublicRead)));
 			}
-			log.info(fileName + " 서버에 저장 완료");
+
+			for (Upload upload : uploads) {
+				upload.waitForCompletion();
+			}
+		} catch (IOException | AmazonClientException e) {
+			log.error("이미지 S3에 저장 실패! ({})", e.getMessage(), e);
+			abortUploads(uploads, fileNames);
+			throw new ImageException(ImageErrorCode.FAILED_UPLOAD);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abortUploads(uploads, fileNames);
+			throw new ImageException(ImageErrorCode.FAILED_UPLOAD);
+		} finally {
+			inputStreams.forEach(this::closeQuietly);
+		}
+
+		List<String> urlList = new ArrayList<>();
+		for (String fileName : fileNames) {
+			log.info("{} 서버에 저장 완료", fileName);
 			urlList.add(baseUrl + fileName);
-		});
+		}
 
-		log.info("이미지 S3에 저장 완료! (이미지 파일 갯수 : " + multipartFiles.size() + ")");
+		log.info("이미지 S3에 저장 완료! (이미지 파일 갯수 : {})", multipartFiles.size());
 		return urlList;
 	}
 
+	private void abortUploads(List<Upload> uploads, List<String> fileNames) {
+		for (int i = 0; i < uploads.size(); i++) {
+			Upload upload = uploads.get(i);
+			try {
+				if (upload.isDone()) {
+					amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileNames.get(i)));
+				} else {
+					upload.abort();
+				}
+			} catch (AmazonClientException e) {
+				log.error("{} 업로드 취소 실패, S3 에 남은 파일 확인 필요 ({})", fileNames.get(i),
+					e.getMessage());
+			}
+		}
+	}
+
+	private void closeQuietly(InputStream inputStream) {
+		try {
+			inputStream.close();
+		} catch (IOException e) {
+			log.warn("이미지 입력 스트림 닫기 실패 ({})", e.getMessage());
+		}
+	}
+
 	public List<String> findImageUrls(Long placeId) {
-		log.info("findImageUrls : 장소에 포함된 이미지 url 조회 시작! (장소 아이디 : " + placeId + ")");
+		log.info("findImageUrls : 장소에 포함된 이미지 url 조회 시작! (장소 아이디 : {})", placeId);
 		List<String> imageUrls = new ArrayList<>();
 		Place place = placeRepository.findById(placeId)
 			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
 		placeImageRepository.findAllByPlaceId(place.getId())
 			.forEach(placeImage -> imageUrls.add(placeImage.getUrl()));
-		log.info("findImageUrls : 장소에 포함된 이미지 url 조회 완료! (장소 아이디 : " + placeId + ")");
+		log.info("findImageUrls : 장소에 포함된 이미지 url 조회 완료! (장소 아이디 : {})", placeId);
 		return imageUrls;
 	}
 
 	public void deleteFile(String url) {
-		log.info("이미지 S3에서 삭제 시작! (url : " + url + ")");
-		String fileName = url.replaceAll(baseUrl, "");
-		amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
-		log.info("이미지 S3에서 삭제 끝! (url : " + url + ")");
+		log.info("이미지 S3에서 삭제 시작! (url : {})", url);
+		deleteFiles(Collections.singletonList(url));
+		log.info("이미지 S3에서 삭제 끝! (url : {})", url);
+	}
+
+	/**
+	 * 원본과 리사이즈 이미지를 DeleteObjectsRequest 한 번에 최대 1000개씩 묶어서 삭제한다.
+	 * 일부 묶음이 실패해도 나머지 묶음은 계속 삭제한다.
+	 */
+	public void deleteFiles(List<String> urls) {
+		List<KeyVersion> keys = new ArrayList<>();
+		for (String url : urls) {
+			String fileName = url.replaceAll(baseUrl, "");
+			keys.add(new KeyVersion(fileName));
+			for (ImageVariantType variant : ImageVariantType.values()) {
+				keys.add(new KeyVersion(variant.toVariantName(fileName)));
+			}
+		}
+
+		for (List<KeyVersion> partition : Lists.partition(keys, DELETE_OBJECTS_LIMIT)) {
+			try {
+				amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+					.withKeys(new ArrayList<>(partition))
+					.withQuiet(true));
+			} catch (MultiObjectDeleteException e) {
+				List<String> failedKeys = new ArrayList<>();
+				e.getErrors().forEach(error -> failedKeys.add(error.getKey()));
+				log.error("deleteFiles : 일부 이미지 S3에서 삭제 실패 (실패 갯수 : {}) {}",
+					failedKeys.size(), failedKeys);
+			} catch (AmazonClientException e) {
+				log.error("deleteFiles : 이미지 S3에서 삭제 실패 (키 갯수 : {}) {}",
+					partition.size(), e.getMessage(), e);
+			}
+		}
+	}
+
+	@Async(AsyncConfig.IMAGE_DELETE_EXECUTOR)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onImageDelete(ImageDeleteEvent event) {
+		log.info("onImageDelete : 삭제된 이미지 S3에서 삭제 시작! (이미지 갯수 : {})",
+			event.getImageUrls().size());
+		deleteFiles(event.getImageUrls());
+		log.info("onImageDelete : 삭제된 이미지 S3에서 삭제 완료! (이미지 갯수 : {})",
+			event.getImageUrls().size());
 	}
 
 	private String createFileName(String fileName) {
@@ -121,26 +233,155 @@ public class AwsS3Service {
 		return imageUrls;
 	}
 
-	public ResponseEntity<byte[]> getImageFiles(String imageUrl) throws IOException {
-		log.info("getImageFiles : 이미지 S3에서 파일 불러오기 시작! (url : " + imageUrl + ")");
-		HttpHeaders httpHeaders = new HttpHeaders();
+	/**
+	 * S3 에 저장된 이미지를 메모리에 올리지 않고 그대로 응답으로 흘려보낸다.
+	 * <p>
+	 * 업로드된 파일 이름은 UUID 라서 같은 이름의 객체 내용이 바뀌지 않는다. 따라서 파일 이름을 ETag 로
+	 * 사용하고, If-None-Match 가 일치하면 S3 를 조회하지 않고 304 를 반환한다. Range 요청은 단일 구간만
+	 * 지원하며, 여러 구간을 요청하면 전체 파일을 반환한다.
+	 */
+	public ResponseEntity<StreamingResponseBody> getImageFile(String imageUrl,
+		HttpHeaders requestHeaders) throws IOException {
+		log.info("getImageFile : 이미지 S3에서 파일 불러오기 시작! (url : {})", imageUrl);
 		String url = imageUrl.replaceAll(baseUrl, "");
-		log.info("getImageFiles : 수정된 url (url : " + url + ")");
-		S3Object o = amazonS3.getObject(new GetObjectRequest(bucket, url));
-		S3ObjectInputStream objectInputStream = o.getObjectContent();
+		String eTag = "\"" + url + "\"";
+		String fileName = URLEncoder.encode(url, "UTF-8").replaceAll("\\+", "%20");
 
-		if (objectInputStream == null) {
-			throw new ImageException(ImageErrorCode.NOT_FOUND_FILE);
+		if (matchesETag(requestHeaders.getIfNoneMatch(), eTag)) {
+			log.info("getImageFile : 변경되지 않은 이미지 (url : {})", imageUrl);
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(eTag)
+				.cacheControl(IMAGE_CACHE_CONTROL)
+				.build();
 		}
 
-		byte[] bytes = IOUtils.toByteArray(objectInputStream);
+		HttpRange range = getSingleRange(requestHeaders);
+		GetObjectRequest getObjectRequest = new GetObjectRequest(bucket, url);
+		if (range != null) {
+			if (isSuffixRange(range)) {
+				// 끝에서부터 세는 구간(bytes=-500)만 시작 위치를 정하려면 파일 크기가 필요하다
+				long instanceLength = getObjectMetadata(url).getContentLength();
+				long start = range.getRangeStart(instanceLength);
+				long end = range.getRangeEnd(instanceLength);
+				if (start > end) {
+					return rangeNotSatisfiable(instanceLength);
+				}
+				getObjectRequest.setRange(start, end);
+			} else {
+				// 시작 위치가 정해진 구간은 S3 가 끝 위치를 파일 크기에 맞춰 자른다
+				getObjectRequest.setRange(range.getRangeStart(Long.MAX_VALUE),
+					range.getRangeEnd(Long.MAX_VALUE));
+			}
+		}
 
-		String fileName = URLEncoder.encode(url, "UTF-8").replaceAll("\\+", "%20");
+		S3Object s3Object;
+		try {
+			s3Object = getObject(getObjectRequest);
+		} catch (AmazonS3Exception e) {
+			if (range != null
+				&& e.getStatusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+				return rangeNotSatisfiable(getObjectMetadata(url).getContentLength());
+			}
+			throw e;
+		}
+		ObjectMetadata metadata = s3Object.getObjectMetadata();
 
-		httpHeaders.setContentType(MediaType.IMAGE_PNG);
-		httpHeaders.setContentLength(bytes.length);
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.setContentType(getContentType(metadata));
+		httpHeaders.setContentLength(metadata.getContentLength());
 		httpHeaders.setContentDispositionFormData("attachment", fileName);
-		log.info("getImageFiles : 이미지 S3에서 파일 불러오기 끝! (url : " + imageUrl + ")");
-		return new ResponseEntity<>(bytes, httpHeaders, HttpStatus.OK);
+		httpHeaders.setETag(eTag);
+		httpHeaders.setCacheControl(IMAGE_CACHE_CONTROL);
+		httpHeaders.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		HttpStatus status = HttpStatus.OK;
+		if (range != null) {
+			// 응답의 Content-Range 에 담긴 파일 크기로 구간을 계산한다
+			long instanceLength = metadata.getInstanceLength();
+			httpHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes "
+				+ range.getRangeStart(instanceLength) + "-" + range.getRangeEnd(instanceLength)
+				+ "/" + instanceLength);
+			status = HttpStatus.PARTIAL_CONTENT;
+		}
+
+		StreamingResponseBody body = outputStream -> {
+			S3ObjectInputStream inputStream = s3Object.getObjectContent();
+			try {
+				StreamUtils.copy(inputStream, outputStream);
+			} catch (IOException e) {
+				inputStream.abort();
+				throw e;
+			} finally {
+				s3Object.close();
+			}
+		};
+
+		log.info("getImageFile : 이미지 S3에서 파일 응답 시작! (url : {})", imageUrl);
+		return new ResponseEntity<>(body, httpHeaders, status);
+	}
+
+	// "*" 는 객체가 있을 때만 일치하는데, 304 는 S3 를 조회하지 않고 반환하므로 "*" 는 일치로 보지 않는다
+	private boolean matchesETag(List<String> ifNoneMatch, String eTag) {
+		for (String value : ifNoneMatch) {
+			String tag = value.startsWith("W/") ? value.substring(2) : value;
+			if (tag.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private HttpRange getSingleRange(HttpHeaders requestHeaders) {
+		try {
+			List<HttpRange> ranges = requestHeaders.getRange();
+			return ranges.size() == 1 ? ranges.get(0) : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	// 시작 위치가 정해진 구간은 파일 크기와 상관없이 시작 위치가 같고, 끝에서부터 세는 구간만 달라진다
+	private boolean isSuffixRange(HttpRange range) {
+		return range.getRangeStart(Long.MAX_VALUE) != range.getRangeStart(Long.MAX_VALUE - 1);
+	}
+
+	private ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(long instanceLength) {
+		return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+			.header(HttpHeaders.CONTENT_RANGE, "bytes */" + instanceLength)
+			.build();
+	}
+
+	private ObjectMetadata getObjectMetadata(String url) {
+		try {
+			return amazonS3.getObjectMetadata(bucket, url);
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+				throw new ImageException(ImageErrorCode.NOT_FOUND_FILE);
+			}
+			throw e;
+		}
+	}
+
+	private S3Object getObject(GetObjectRequest getObjectRequest) {
+		try {
+			S3Object s3Object = amazonS3.getObject(getObjectRequest);
+			if (s3Object == null) {
+				throw new ImageException(ImageErrorCode.NOT_FOUND_FILE);
+			}
+			return s3Object;
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+				throw new ImageException(ImageErrorCode.NOT_FOUND_FILE);
+			}
+			throw e;
+		}
+	}
+
+	private MediaType getContentType(ObjectMetadata metadata) {
+		try {
+			return MediaType.parseMediaType(metadata.getContentType());
+		} catch (InvalidMediaTypeException | IllegalArgumentException e) {
+			return MediaType.APPLICATION_OCTET_STREAM;
+		}
 	}
 }
@@ -0,0 +1,181 @@
+package onde.there.image.service;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onde.there.config.AsyncConfig;
+import onde.there.domain.Journey;
+import onde.there.domain.type.ImageVariantType;
+import onde.there.image.event.ImageUploadEvent;
+import onde.there.journey.repository.JourneyRepository;
+import onde.there.place.repository.PlaceImageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 업로드된 원본 이미지로 ImageVariantType 별 리사이즈 이미지를 만들어 원본과 같은 경로에 저장한다.
+ * <p>
+ * 이미지를 저장한 트랜잭션이 커밋된 뒤(ImageUploadEvent) 만들고, 모두 저장된 이미지만
+ * 장소 이미지, 여정 썸네일에 variantReady 로 표시해 응답에 리사이즈 이미지 url 을 내려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageResizeService {
+
+	private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+	private static final float VARIANT_QUALITY = 0.8f;
+
+	private final AmazonS3 amazonS3;
+	private final PlaceImageRepository placeImageRepository;
+	private final JourneyRepository journeyRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	@Value("${cloud.aws.baseUrl}")
+	private String baseUrl;
+
+	@Async(AsyncConfig.IMAGE_RESIZE_EXECUTOR)
+	@TransactionalEventListener
+	public void onImageUpload(ImageUploadEvent event) {
+		createVariants(event.getImageUrls());
+	}
+
+	public void createVariants(List<String> imageUrls) {
+		List<String> readyUrls = new ArrayList<>();
+		for (String imageUrl : imageUrls) {
+			String fileName = imageUrl.replaceAll(baseUrl, "");
+			try {
+				if (resizeAndStore(fileName)) {
+					readyUrls.add(imageUrl);
+				}
+			} catch (IOException | AmazonClientException e) {
+				log.warn("createVariants : 리사이즈 이미지 생성 실패 (파일 이름 : {}) {}",
+					fileName, e.getMessage());
+			}
+		}
+
+		if (!readyUrls.isEmpty()) {
+			markVariantReady(readyUrls);
+		}
+	}
+
+	private void markVariantReady(List<String> imageUrls) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				placeImageRepository.markVariantReadyByUrlIn(imageUrls);
+				// 2차 캐시를 비우도록 엔티티를 수정한다
+				for (Journey journey : journeyRepository.findAllByJourneyThumbnailUrlIn(
+					imageUrls)) {
+					journey.setJourneyThumbnailVariantReady(true);
+				}
+			});
+		} catch (DataAccessException e) {
+			log.warn("createVariants : 리사이즈 이미지 저장 표시 실패 (이미지 갯수 : {}) {}",
+				imageUrls.size(), e.getMessage());
+		}
+	}
+
+	private boolean resizeAndStore(String fileName) throws IOException {
+		log.info("createVariants : 리사이즈 이미지 생성 시작 (파일 이름 : {})", fileName);
+		BufferedImage source;
+		try (S3Object s3Object = amazonS3.getObject(bucket, fileName);
+			InputStream inputStream = s3Object.getObjectContent()) {
+			source = ImageIO.read(inputStream);
+		}
+
+		if (source == null) {
+			log.info("createVariants : 읽을 수 없는 이미지 형식 (파일 이름 : {})", fileName);
+			return false;
+		}
+
+		for (ImageVariantType variant : ImageVariantType.values()) {
+			byte[] bytes = toJpeg(resize(source, variant.getWidth()));
+
+			ObjectMetadata objectMetadata = new ObjectMetadata();
+			objectMetadata.setContentLength(bytes.length);
+			objectMetadata.setContentType(VARIANT_CONTENT_TYPE);
+
+			amazonS3.putObject(new PutObjectRequest(bucket, variant.toVariantName(fileName),
+				new ByteArrayInputStream(bytes), objectMetadata)
+				.withCannedAcl(CannedAccessControlList.PublicRead));
+		}
+		log.info("createVariants : 리사이즈 이미지 생성 완료 (파일 이름 : {})", fileName);
+		return true;
+	}
+
+	/**
+	 * 한 번에 크게 줄이면 계단 현상이 생기므로 목표 크기의 두 배 이하가 될 때까지 절반씩 줄인 뒤 맞춘다.
+	 * 원본이 목표보다 작으면 확대하지 않는다.
+	 */
+	static BufferedImage resize(BufferedImage source, int targetWidth) {
+		int width = Math.min(targetWidth, source.getWidth());
+		int height = Math.max(1,
+			(int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+		BufferedImage current = source;
+		while (current.getWidth() / 2 >= width) {
+			current = draw(current, current.getWidth() / 2,
+				Math.max(height, current.getHeight() / 2));
+		}
+		return draw(current, width, height);
+	}
+
+	private static BufferedImage draw(BufferedImage source, int width, int height) {
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+			RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+			RenderingHints.VALUE_RENDER_QUALITY);
+		// JPEG 는 투명도를 지원하지 않으므로 흰 배경 위에 그린다
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, width, height);
+		graphics.drawImage(source, 0, 0, width, height, null);
+		graphics.dispose();
+		return target;
+	}
+
+	private static byte[] toJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(VARIANT_QUALITY);
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (MemoryCacheImageOutputStream imageOutputStream =
+			new MemoryCacheImageOutputStream(outputStream)) {
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+}
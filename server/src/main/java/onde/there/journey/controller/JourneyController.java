@@ -12,12 +12,12 @@ import onde.there.dto.journy.JourneyDto;
 import onde.there.dto.journy.JourneyDto.DetailResponse;
 import onde.there.dto.journy.JourneyDto.FilteringRequest;
 import onde.there.dto.journy.JourneyDto.FilteringResponse;
-import onde.there.dto.journy.JourneyDto.JourneyListResponse;
+import onde.there.dto.journy.JourneyDto.JourneyFeedResponse;
 import onde.there.dto.journy.JourneyDto.MyListResponse;
 import onde.there.journey.service.JourneyService;
 import onde.there.member.security.jwt.TokenMemberId;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -97,33 +97,42 @@ public class JourneyController {
 		return ResponseEntity.ok(journeyService.journeyDetail(journeyId));
 	}
 
-	@Operation(summary = "모든 여정 조회", description = "모든 여정을 조회합니다.")
-	@ApiResponse(responseCode = "200", description = "모든 여정을 반환",
-		content = @Content(schema = @Schema(implementation = JourneyDto.JourneyListResponse.class)))
+	@Operation(summary = "모든 여정 조회",
+		description = "공개된 여정을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회한 여정과 다음 cursor 를 반환",
+		content = @Content(schema = @Schema(implementation = JourneyDto.JourneyFeedResponse.class)))
 	@GetMapping("/list")
-	public ResponseEntity<List<JourneyListResponse>> getJourneyList() {
+	public ResponseEntity<JourneyFeedResponse> getJourneyList(
+		@Parameter(description = "이전 응답의 nextCursor, 첫 페이지는 생략")
+		@RequestParam(required = false) Long cursor,
+		@Parameter(description = "페이지 크기 (최대 50)")
+		@RequestParam(defaultValue = "10") int size) {
 
-		return ResponseEntity.ok(journeyService.list());
+		return ResponseEntity.ok(journeyService.list(cursor, size));
 	}
 
 	@Operation(summary = "내 여정 조회", description = "내 여정을 조회합니다.")
 	@ApiResponse(responseCode = "200", description = "내 여정을 반환",
 		content = @Content(schema = @Schema(implementation = JourneyDto.JourneyListResponse.class)))
 	@GetMapping("/my-list")
-	public ResponseEntity<Page<MyListResponse>> getMyJourneyList(
+	public ResponseEntity<Slice<MyListResponse>> getMyJourneyList(
 		@Parameter(description = "내 아이디", required = true)
-		@TokenMemberId String memberId, Pageable pageable) {
+		@TokenMemberId String memberId, Pageable pageable,
+		@Parameter(description = "false 면 전체 갯수를 세지 않고 다음 페이지 여부만 반환")
+		@RequestParam(defaultValue = "true") boolean includeTotal) {
 
-		return ResponseEntity.ok(journeyService.myList(memberId, pageable));
+		return ResponseEntity.ok(journeyService.myList(memberId, pageable, includeTotal));
 	}
 
 	@Operation(summary = "여정 필터링", description = "필터링된 여정을 조회합니다.")
 	@GetMapping("/filtered-list")
-	public ResponseEntity<Page<FilteringResponse>> getFilteredList(
+	public ResponseEntity<Slice<FilteringResponse>> getFilteredList(
 		@RequestParam String keyword,
 		@RequestParam List<String> themes,
 		@RequestParam List<String> regions,
-		Pageable pageable
+		Pageable pageable,
+		@Parameter(description = "false 면 전체 갯수를 세지 않고 다음 페이지 여부만 반환")
+		@RequestParam(defaultValue = "true") boolean includeTotal
 	) {
 
 		FilteringRequest filteringRequest = FilteringRequest.builder()
@@ -133,7 +142,7 @@ public class JourneyController {
 			.build();
 
 		return ResponseEntity.ok(
-			journeyService.filteredList(filteringRequest, pageable));
+			journeyService.filteredList(filteringRequest, pageable, includeTotal));
 	}
 
 }
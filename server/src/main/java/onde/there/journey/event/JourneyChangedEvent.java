@@ -0,0 +1,14 @@
+package onde.there.journey.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여정 또는 여정에 포함된 장소가 생성, 수정, 삭제된 경우 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JourneyChangedEvent {
+
+	private final Long journeyId;
+}
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 import onde.there.domain.JourneyBookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +16,8 @@ public interface JourneyBookmarkRepository extends JpaRepository<JourneyBookmark
 
 	Optional<JourneyBookmark> findByMemberIdAndJourneyId(String memberId, Long journeyId);
 	boolean existsByMemberId(String id);
+
+	@Modifying
+	@Query("delete from journey_bookmark jb where jb.journey.id = :journeyId")
+	int deleteAllInBulkByJourneyId(@Param("journeyId") Long journeyId);
 }
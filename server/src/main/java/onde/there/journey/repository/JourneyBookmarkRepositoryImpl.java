@@ -2,17 +2,16 @@ package onde.there.journey.repository;
 
 import static onde.there.domain.QJourney.journey;
 import static onde.there.domain.QJourneyBookmark.journeyBookmark;
-import static onde.there.domain.QMember.member;
-import static onde.there.domain.QJourneyTheme.journeyTheme;
 
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.JPQLQueryFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import onde.there.domain.JourneyBookmark;
-import onde.there.dto.journy.JourneyBookmarkDto.JourneyBookmarkPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -22,56 +21,49 @@ public class JourneyBookmarkRepositoryImpl implements JourneyBookmarkRepositoryC
 
 	private final JPQLQueryFactory jpaQueryFactory;
 
-//	@Override
-//	public Page<JourneyBookmarkPageResponse> getBookmarkPage(String memberId, Pageable pageable) {
-//		List<JourneyBookmarkPageResponse> fetch = jpaQueryFactory
-//			.select(Projections.constructor(JourneyBookmarkPageResponse.class,
-//				journeyBookmark.journey.id.as("journeyId"),
-//				journeyBookmark.id.as("journeyBookmarkId"),
-//				journeyBookmark.member.id.as("memberId"),
-//				journeyBookmark.journey.title.as("title"),
-//				journeyBookmark.journey.startDate.as("startDate"),
-//				journeyBookmark.journey.endDate.as("endDate"),
-//				journeyBookmark.journey.numberOfPeople.as("numberOfPeople"),
-//				journeyBookmark.journey.disclosure.as("disclosure"),
-//				journeyBookmark.journey.journeyThemes.as("journeyThemes"),
-//				journeyBookmark.journey.introductionText.as("introductionText"),
-//				journeyBookmark.journey.region.as("region"),
-//				journeyBookmark.journey.journeyThumbnailUrl.as("journeyThumbnailUrl")))
-//			.from(journeyBookmark)
-//
-//			.where(memberEq(memberId))
-//			.offset(pageable.getOffset())
-//			.limit(pageable.getPageSize())
-//            .fetch();
-//
-//		JPQLQuery<JourneyBookmark> count = jpaQueryFactory
-//			.selectFrom(journeyBookmark)
-//			.join(journeyBookmark.journey, journey)
-//			.join(journeyBookmark.member, member)
-//			.where(memberEq(memberId));
-//
-//		return PageableExecutionUtils.getPage(fetch, pageable, count::fetchCount);
-//	}
-
+	/**
+	 * (member_id, journey_bookmark_id) 인덱스만 읽어 한 페이지의 북마크 아이디를 구한 뒤,
+	 * 그 북마크만 여정과 함께 fetch join 으로 가져온다.
+	 */
 	@Override
 	public Page<JourneyBookmark> getBookmarkPage(String memberId, Pageable pageable) {
-		List<JourneyBookmark> fetch = jpaQueryFactory
-			.selectFrom(journeyBookmark)
-            .where(memberEq(memberId))
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
-		JPQLQuery<JourneyBookmark> count = jpaQueryFactory
-			.selectFrom(journeyBookmark)
+		List<Long> ids = jpaQueryFactory
+			.select(journeyBookmark.id)
+			.from(journeyBookmark)
+			.where(memberEq(memberId))
+			.orderBy(journeyBookmark.id.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		List<JourneyBookmark> content = new ArrayList<>();
+		if (!ids.isEmpty()) {
+			Map<Long, JourneyBookmark> bookmarks = new HashMap<>();
+			for (JourneyBookmark fetched : jpaQueryFactory
+				.selectFrom(journeyBookmark)
+				.innerJoin(journeyBookmark.journey, journey)
+				.fetchJoin()
+				.where(journeyBookmark.id.in(ids))
+				.fetch()) {
+				bookmarks.put(fetched.getId(), fetched);
+			}
+
+			for (Long id : ids) {
+				if (bookmarks.containsKey(id)) {
+					content.add(bookmarks.get(id));
+				}
+			}
+		}
+
+		JPQLQuery<Long> count = jpaQueryFactory
+			.select(journeyBookmark.count())
+			.from(journeyBookmark)
 			.where(memberEq(memberId));
 
-		return PageableExecutionUtils.getPage(fetch, pageable, count::fetchCount);
+		return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
 	}
 
 	private BooleanExpression memberEq(String memberId) {
 		return memberId != null ? journeyBookmark.member.id.eq(memberId) : null;
 	}
-
-
 }
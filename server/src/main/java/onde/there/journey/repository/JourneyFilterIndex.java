@@ -0,0 +1,159 @@
+package onde.there.journey.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.RegionType;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 공개 여정 아이디를 지역별, 테마별 비트맵으로 들고 있는 메모리 인덱스.
+ * <p>
+ * 지역, 테마 필터는 비트맵 OR/AND 로 계산하고, 정확한 전체 갯수와 페이지에 해당하는 아이디도
+ * 비트맵에서 바로 구한다. 서버가 시작된 뒤 전체 색인이 끝나기 전까지는 ready 가 false 이며,
+ * 이때는 DB 쿼리로 조회해야 한다.
+ */
+@Repository
+public class JourneyFilterIndex {
+
+	private final Roaring64NavigableMap publicJourneys = new Roaring64NavigableMap();
+	private final Map<RegionType, Roaring64NavigableMap> regions = new EnumMap<>(
+		RegionType.class);
+	private final Map<JourneyThemeType, Roaring64NavigableMap> themes = new EnumMap<>(
+		JourneyThemeType.class);
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private volatile boolean ready;
+
+	public JourneyFilterIndex() {
+		for (RegionType region : RegionType.values()) {
+			regions.put(region, new Roaring64NavigableMap());
+		}
+		for (JourneyThemeType theme : JourneyThemeType.values()) {
+			themes.put(theme, new Roaring64NavigableMap());
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public void setReady(boolean ready) {
+		this.ready = ready;
+	}
+
+	/**
+	 * 여정의 기존 색인을 지우고 현재 값으로 다시 넣는다. 비공개 여정은 색인하지 않는다.
+	 */
+	public void update(Long journeyId, boolean isPublic, RegionType region,
+		Collection<JourneyThemeType> journeyThemes) {
+		lock.writeLock().lock();
+		try {
+			removeInLock(journeyId);
+			if (!isPublic) {
+				return;
+			}
+			publicJourneys.addLong(journeyId);
+			if (region != null) {
+				regions.get(region).addLong(journeyId);
+			}
+			for (JourneyThemeType theme : journeyThemes) {
+				themes.get(theme).addLong(journeyId);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long journeyId) {
+		lock.writeLock().lock();
+		try {
+			removeInLock(journeyId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			publicJourneys.clear();
+			regions.values().forEach(Roaring64NavigableMap::clear);
+			themes.values().forEach(Roaring64NavigableMap::clear);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public Roaring64NavigableMap publicJourneyIds() {
+		lock.readLock().lock();
+		try {
+			return copy(publicJourneys);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 공개 여정 중 지역 중 하나, 테마 중 하나에 해당하는 여정을 반환한다. 빈 조건은 거르지 않는다.
+	 * candidateIds 가 null 이 아니면 그 안에서만 찾는다.
+	 */
+	public Roaring64NavigableMap filter(Collection<RegionType> regionTypes,
+		Collection<JourneyThemeType> themeTypes, Roaring64NavigableMap candidateIds) {
+		lock.readLock().lock();
+		try {
+			Roaring64NavigableMap result = copy(publicJourneys);
+			if (!regionTypes.isEmpty()) {
+				result.and(union(regions, regionTypes));
+			}
+			if (!themeTypes.isEmpty()) {
+				result.and(union(themes, themeTypes));
+			}
+			if (candidateIds != null) {
+				result.and(candidateIds);
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 아이디 내림차순(최신순)으로 offset 부터 size 개의 아이디를 반환한다.
+	 */
+	public static List<Long> page(Roaring64NavigableMap journeyIds, long offset, int size) {
+		List<Long> page = new ArrayList<>();
+		long cardinality = journeyIds.getLongCardinality();
+		for (long rank = offset; rank < offset + size && rank < cardinality; rank++) {
+			page.add(journeyIds.select(cardinality - 1 - rank));
+		}
+		return page;
+	}
+
+	private void removeInLock(Long journeyId) {
+		publicJourneys.removeLong(journeyId);
+		regions.values().forEach(bitmap -> bitmap.removeLong(journeyId));
+		themes.values().forEach(bitmap -> bitmap.removeLong(journeyId));
+	}
+
+	private static <T> Roaring64NavigableMap union(Map<T, Roaring64NavigableMap> bitmaps,
+		Collection<T> keys) {
+		Roaring64NavigableMap union = new Roaring64NavigableMap();
+		for (T key : keys) {
+			union.or(bitmaps.get(key));
+		}
+		return union;
+	}
+
+	private static Roaring64NavigableMap copy(Roaring64NavigableMap bitmap) {
+		Roaring64NavigableMap copy = new Roaring64NavigableMap();
+		copy.or(bitmap);
+		return copy;
+	}
+}
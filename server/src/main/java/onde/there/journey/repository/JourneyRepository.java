@@ -1,15 +1,27 @@
 package onde.there.journey.repository;
 
+import java.util.Collection;
 import java.util.List;
 import onde.there.domain.Journey;
 import onde.there.domain.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JourneyRepository extends JpaRepository<Journey, Long>, JourneyRepositoryCustom{
 
-	List<Journey> findAllByDisclosure(String disclosure);
-
 	List<Journey> findAllByMember(Member member);
+
+	List<Journey> findTop500ByThemeMaskIsNull();
+
+	Slice<Journey> findAllByIdGreaterThan(Long id, Pageable pageable);
+
+	List<Journey> findAllByJourneyThumbnailUrlIn(Collection<String> journeyThumbnailUrls);
+
+	@Query("select j.id from Journey j where j.disclosure = :disclosure")
+	List<Long> findIdsByDisclosure(@Param("disclosure") String disclosure);
 }
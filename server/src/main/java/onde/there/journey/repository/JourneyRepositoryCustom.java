@@ -1,12 +1,20 @@
 package onde.there.journey.repository;
 
+import java.util.List;
 import onde.there.domain.Journey;
 import onde.there.dto.journy.JourneyDto;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface JourneyRepositoryCustom {
 
-	Page<Journey> searchAll(JourneyDto.FilteringRequest filteringRequest, Pageable pageable);
-	Page<Journey> myList(String memberId, Pageable pageable);
+	/**
+	 * includeTotal 이 true 면 전체 갯수를 담은 Page, false 면 다음 페이지 여부만 담은 Slice 를 돌려준다.
+	 */
+	Slice<Journey> searchAll(JourneyDto.FilteringRequest filteringRequest, Pageable pageable,
+		boolean includeTotal);
+
+	Slice<Journey> myList(String memberId, Pageable pageable, boolean includeTotal);
+
+	List<Journey> findPublicFeed(Long cursor, int size);
 }
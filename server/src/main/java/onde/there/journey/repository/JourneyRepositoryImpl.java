@@ -6,117 +6,263 @@ import static onde.there.domain.QMember.*;
 import static onde.there.domain.type.JourneyThemeType.findByTheme;
 import static onde.there.domain.type.RegionType.findByRegion;
 
-import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import onde.there.domain.Journey;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.RegionType;
 import onde.there.dto.journy.JourneyDto;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JourneyRepositoryImpl implements JourneyRepositoryCustom {
 
 	private final JPAQueryFactory jpaQueryFactory;
+	private final JourneySearchIndex journeySearchIndex;
+	private final JourneyFilterIndex journeyFilterIndex;
 
 	@Override
-	public Page<Journey> searchAll(
-		JourneyDto.FilteringRequest filteringRequest, Pageable pageable) {
+	public Slice<Journey> searchAll(JourneyDto.FilteringRequest filteringRequest,
+		Pageable pageable, boolean includeTotal) {
 
-		BooleanBuilder filteredRegion = new BooleanBuilder();
-		conRegions(filteringRequest.getRegions(), filteredRegion);
+		// 검색어가 있으면 색인에서 후보 여정을 먼저 찾고, 나머지 조건은 후보 안에서만 거른다
+		Roaring64NavigableMap candidateIds = null;
+		if (hasKeyword(filteringRequest.getKeyword())) {
+			candidateIds = journeySearchIndex.search(filteringRequest.getKeyword());
+			if (candidateIds.isEmpty()) {
+				return includeTotal ? Page.empty(pageable)
+					: new SliceImpl<>(new ArrayList<>(), pageable, false);
+			}
+		}
 
-		BooleanBuilder filteredTheme = new BooleanBuilder();
-		conJourneyTheme(filteringRequest.getThemes(), filteredTheme);
+		List<RegionType> regions = toRegionTypes(filteringRequest.getRegions());
+		List<JourneyThemeType> themes = toThemeTypes(filteringRequest.getThemes());
 
-		List<Journey> content = jpaQueryFactory
-			.selectFrom(journey)
-			.innerJoin(journey.journeyThemes, journeyTheme)
-			.innerJoin(journey.member, member)
-			.fetchJoin()
-			.where(
-				journey.disclosure.eq("public"),
-				filteredRegion,
-				filteredTheme,
-				eqTitle(filteringRequest.getKeyword())
-			)
-			.groupBy(journey)
+		if (!journeyFilterIndex.isReady()) {
+			return searchAllFromDatabase(regions, themes, candidateIds, pageable,
+				includeTotal);
+		}
+
+		Roaring64NavigableMap journeyIds = journeyFilterIndex.filter(regions, themes,
+			candidateIds);
+		List<Long> pageIds = JourneyFilterIndex.page(journeyIds, pageable.getOffset(),
+			pageable.getPageSize());
+		// 색인은 서버마다 메모리에 있으므로 비공개로 바뀌었거나 지워진 여정이 남아 있을 수 있어 조건을 DB 에서 다시 확인한다
+		List<Journey> content = hydrate(pageIds, journey.disclosure.eq("public"),
+			inRegions(regions), hasAnyTheme(themes));
+		long total = journeyIds.getLongCardinality() - removeStale(pageIds, content);
+		if (includeTotal) {
+			return new PageImpl<>(content, pageable, total);
+		}
+		return new SliceImpl<>(content, pageable,
+			pageable.getOffset() + pageable.getPageSize() < total);
+	}
+
+	/**
+	 * 서버 시작 후 JourneyFilterIndex 가 만들어지기 전에만 사용하는 DB 조회
+	 */
+	private Slice<Journey> searchAllFromDatabase(List<RegionType> regions,
+		List<JourneyThemeType> themes, Roaring64NavigableMap candidateIds, Pageable pageable,
+		boolean includeTotal) {
+
+		BooleanExpression[] conditions = {
+			journey.disclosure.eq("public"),
+			inRegions(regions),
+			hasAnyTheme(themes),
+			inJourneyIds(candidateIds)
+		};
+
+		List<Long> ids = jpaQueryFactory
+			.select(journey.id)
+			.from(journey)
+			.where(conditions)
+			.orderBy(journey.id.desc())
 			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
+			.limit(pageable.getPageSize() + 1L)
 			.fetch();
 
-		JPAQuery<Long> countQuery = jpaQueryFactory
-			.select(journey.countDistinct())
+		return toSlice(ids, pageable, includeTotal, () -> jpaQueryFactory
+			.select(journey.count())
 			.from(journey)
-			.innerJoin(journey.journeyThemes, journeyTheme)
-			.where(
-				journey.disclosure.eq("public"),
-				filteredRegion,
-				filteredTheme,
-				eqTitle(filteringRequest.getKeyword()));
+			.where(conditions)
+			.fetchOne());
+	}
+
+	@Override
+	public Slice<Journey> myList(String memberId, Pageable pageable,
+		boolean includeTotal) {
+
+		List<Long> ids = jpaQueryFactory
+			.select(journey.id)
+			.from(journey)
+			.where(eqMemberId(memberId))
+			.orderBy(journey.id.asc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize() + 1L)
+			.fetch();
+
+		return toSlice(ids, pageable, includeTotal, () -> jpaQueryFactory
+			.select(journey.count())
+			.from(journey)
+			.where(eqMemberId(memberId))
+			.fetchOne());
+	}
+
+	/**
+	 * 한 페이지보다 하나 더 가져온 아이디로 다음 페이지 여부를 정하고, 전체 갯수는 요청했을 때만 센다.
+	 */
+	private Slice<Journey> toSlice(List<Long> ids, Pageable pageable, boolean includeTotal,
+		LongSupplier total) {
+
+		boolean hasNext = ids.size() > pageable.getPageSize();
+		List<Journey> content = hydrate(hasNext ? ids.subList(0, pageable.getPageSize()) : ids);
+		if (includeTotal) {
+			return PageableExecutionUtils.getPage(content, pageable, total);
+		}
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	/**
+	 * 조건에 맞지 않아 빠진 여정을 색인에서 지우고 지운 갯수를 반환한다.
+	 * 공개 여정인데 지역, 테마만 달라진 경우는 JourneyIndexService.reconcile 이 다시 색인한다.
+	 */
+	private int removeStale(List<Long> pageIds, List<Journey> content) {
+		if (content.size() == pageIds.size()) {
+			return 0;
+		}
+
+		Set<Long> found = new HashSet<>();
+		for (Journey hydrated : content) {
+			found.add(hydrated.getId());
+		}
+		int removed = 0;
+		for (Long journeyId : pageIds) {
+			if (!found.contains(journeyId)) {
+				journeyFilterIndex.remove(journeyId);
+				removed++;
+			}
+		}
+		log.warn("removeStale : 조건에 맞지 않는 여정을 색인에서 제거 (제거 수 : {})", removed);
+		return removed;
+	}
+
+	/**
+	 * 아이디 순서대로 조건에 맞는 여정을 회원과 함께 가져온다. 테마는 themeMask 나 journey_theme 배치 조회로 채운다.
+	 */
+	private List<Journey> hydrate(List<Long> ids, BooleanExpression... conditions) {
+		List<Journey> content = new ArrayList<>();
+		if (ids.isEmpty()) {
+			return content;
+		}
+
+		Map<Long, Journey> journeys = new HashMap<>();
+		for (Journey fetched : jpaQueryFactory
+			.selectFrom(journey)
+			.innerJoin(journey.member, member)
+			.fetchJoin()
+			.where(journey.id.in(ids), ExpressionUtils.allOf(conditions))
+			.fetch()) {
+			journeys.put(fetched.getId(), fetched);
+		}
 
-		return PageableExecutionUtils.getPage(content, pageable,
-			countQuery::fetchOne);
+		for (Long journeyId : ids) {
+			if (journeys.containsKey(journeyId)) {
+				content.add(journeys.get(journeyId));
+			}
+		}
+		return content;
 	}
 
 	@Override
-	public Page<Journey> myList(String memberId, Pageable pageable) {
+	public List<Journey> findPublicFeed(Long cursor, int size) {
 
-		List<Journey> content = jpaQueryFactory
+		return jpaQueryFactory
 			.selectFrom(journey)
-			.innerJoin(journey.journeyThemes, journeyTheme)
 			.innerJoin(journey.member, member)
 			.fetchJoin()
-			.where(eqMemberId(memberId))
-			.groupBy(journey)
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
+			.where(
+				journey.disclosure.eq("public"),
+				ltJourneyId(cursor)
+			)
+			.orderBy(journey.id.desc())
+			.limit(size)
 			.fetch();
+	}
 
-		JPAQuery<Long> countQuery = jpaQueryFactory
-			.select(journey.countDistinct())
-			.from(journey)
-			.innerJoin(journey.journeyThemes, journeyTheme)
-			.where(eqMemberId(memberId));
+	private BooleanExpression ltJourneyId(Long cursor) {
 
-		return PageableExecutionUtils.getPage(content, pageable,
-			countQuery::fetchOne);
+		return cursor == null ? null : journey.id.lt(cursor);
 	}
 
-	private BooleanExpression eqTitle(String title) {
+	private boolean hasKeyword(String keyword) {
+
+		return keyword != null && !keyword.isBlank();
+	}
 
-		if (Objects.equals(title, "")) {
+	private BooleanExpression inJourneyIds(Roaring64NavigableMap journeyIds) {
+		if (journeyIds == null) {
 			return null;
 		}
 
-		return title == null ? null : journey.title.contains(title);
+		List<Long> ids = new ArrayList<>();
+		journeyIds.forEach(ids::add);
+		return journey.id.in(ids);
 	}
 
-	private void conRegions(List<String> regions, BooleanBuilder builder) {
+	private List<RegionType> toRegionTypes(List<String> regions) {
+		List<RegionType> regionTypes = new ArrayList<>();
 		if (regions != null) {
 
 			for (String region : regions) {
-				builder.or(journey.region.eq(findByRegion(region)));
+				regionTypes.add(findByRegion(region));
 			}
 
 		}
+		return regionTypes;
 	}
 
-	private void conJourneyTheme(List<String> journeyThemes,
-		BooleanBuilder builder) {
-		if (journeyThemes != null) {
+	private List<JourneyThemeType> toThemeTypes(List<String> themes) {
+		List<JourneyThemeType> themeTypes = new ArrayList<>();
+		if (themes != null) {
 
-			for (String theme : journeyThemes) {
-				builder.or(
-					journeyTheme.journeyThemeName.eq(findByTheme(theme)));
+			for (String theme : themes) {
+				themeTypes.add(findByTheme(theme));
 			}
 
 		}
+		return themeTypes;
+	}
+
+	private BooleanExpression inRegions(List<RegionType> regions) {
+		return regions.isEmpty() ? null : journey.region.in(regions);
+	}
+
+	private BooleanExpression hasAnyTheme(List<JourneyThemeType> themes) {
+		return themes.isEmpty() ? null : JPAExpressions
+			.selectOne()
+			.from(journeyTheme)
+			.where(
+				journeyTheme.journey.id.eq(journey.id),
+				journeyTheme.journeyThemeName.in(themes))
+			.exists();
 	}
 
 	private BooleanExpression eqMemberId(String memberId) {
@@ -0,0 +1,205 @@
+package onde.there.journey.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여정 제목, 소개글, 장소 이름으로 만든 메모리 역색인.
+ * <p>
+ * 한글은 형태소 분석 대신 두 글자씩 자른 bigram 으로 색인한다. 색인할 때는 한 글자 토큰도 함께 저장해서
+ * 한 글자 검색어도 찾을 수 있고, 검색어의 모든 토큰이 포함된 여정만 후보로 반환한다.
+ * 검색어에 맞는 여정 아이디를 갯수 제한 없이 비트맵으로 반환하고, 공개 여부, 지역, 테마 조건은
+ * JourneyFilterIndex 또는 DB 에서 거른다.
+ * <p>
+ * index, delete, deleteAll 은 refresh 를 부른 뒤에 검색에 반영된다.
+ */
+@Repository
+public class JourneySearchIndex {
+
+	private static final String ID_FIELD = "journeyId";
+	private static final String TEXT_FIELD = "text";
+
+	private final Analyzer queryAnalyzer = new BigramAnalyzer(false);
+	private final IndexWriter indexWriter;
+	private final SearcherManager searcherManager;
+
+	public JourneySearchIndex() {
+		try {
+			IndexWriterConfig config = new IndexWriterConfig(new BigramAnalyzer(true))
+				.setOpenMode(OpenMode.CREATE);
+			this.indexWriter = new IndexWriter(new ByteBuffersDirectory(), config);
+			this.searcherManager = new SearcherManager(indexWriter, null);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void index(Long journeyId, String title, String introductionText,
+		List<String> placeNames) {
+		String text = Stream.concat(Stream.of(title, introductionText), placeNames.stream())
+			.filter(Objects::nonNull)
+			.collect(Collectors.joining("\n"));
+
+		Document document = new Document();
+		document.add(new StringField(ID_FIELD, String.valueOf(journeyId), Store.NO));
+		document.add(new NumericDocValuesField(ID_FIELD, journeyId));
+		document.add(new TextField(TEXT_FIELD, text, Store.NO));
+		try {
+			indexWriter.updateDocument(idTerm(journeyId), document);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void delete(Long journeyId) {
+		try {
+			indexWriter.deleteDocuments(idTerm(journeyId));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void deleteAll() {
+		try {
+			indexWriter.deleteAll();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 지금까지 색인, 삭제한 내용을 검색에 반영한다. 새로 고치는 비용이 크므로 문서마다 부르지 않고
+	 * 여러 문서를 바꾼 뒤 한 번 부른다. 다른 스레드가 새로 고치는 중이면 끝날 때까지 기다린 뒤 다시 새로 고친다.
+	 */
+	public void refresh() {
+		try {
+			searcherManager.maybeRefreshBlocking();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 검색어가 포함된 여정 아이디를 모두 반환한다. 점수는 계산하지 않는다.
+	 */
+	public Roaring64NavigableMap search(String keyword) {
+		JourneyIdCollector collector = new JourneyIdCollector();
+		try {
+			BooleanQuery query = toQuery(keyword);
+			if (query.clauses().isEmpty()) {
+				return collector.journeyIds;
+			}
+
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				searcher.search(query, collector);
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return collector.journeyIds;
+	}
+
+	private BooleanQuery toQuery(String keyword) throws IOException {
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		try (TokenStream tokenStream = queryAnalyzer.tokenStream(TEXT_FIELD, keyword)) {
+			CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+			tokenStream.reset();
+			while (tokenStream.incrementToken()) {
+				builder.add(new TermQuery(new Term(TEXT_FIELD, term.toString())), Occur.MUST);
+			}
+			tokenStream.end();
+		}
+		return builder.build();
+	}
+
+	private Term idTerm(Long journeyId) {
+		return new Term(ID_FIELD, String.valueOf(journeyId));
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		searcherManager.close();
+		indexWriter.close();
+	}
+
+	// 저장 필드 대신 doc values 에서 아이디를 읽어 비트맵에 모은다
+	private static class JourneyIdCollector extends SimpleCollector {
+
+		private final Roaring64NavigableMap journeyIds = new Roaring64NavigableMap();
+		private NumericDocValues ids;
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			ids = DocValues.getNumeric(context.reader(), ID_FIELD);
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if (ids.advanceExact(doc)) {
+				journeyIds.addLong(ids.longValue());
+			}
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return ScoreMode.COMPLETE_NO_SCORES;
+		}
+	}
+
+	private static class BigramAnalyzer extends Analyzer {
+
+		private final boolean outputUnigrams;
+
+		private BigramAnalyzer(boolean outputUnigrams) {
+			this.outputUnigrams = outputUnigrams;
+		}
+
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			Tokenizer source = new StandardTokenizer();
+			TokenStream result = new CJKWidthFilter(source);
+			result = new LowerCaseFilter(result);
+			result = new CJKBigramFilter(result, CJKBigramFilter.HANGUL | CJKBigramFilter.HAN
+				| CJKBigramFilter.HIRAGANA | CJKBigramFilter.KATAKANA, outputUnigrams);
+			return new TokenStreamComponents(source, result);
+		}
+	}
+}
@@ -1,12 +1,22 @@
 package onde.there.journey.repository;
 
+import java.util.Collection;
 import java.util.List;
 import onde.there.domain.JourneyTheme;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JourneyThemeRepository extends
-	JpaRepository<JourneyTheme, Long> {
+	JpaRepository<JourneyTheme, Long>, JourneyThemeRepositoryCustom {
 	List<JourneyTheme>findAllByJourneyId(Long journeyId);
+
+	List<JourneyTheme> findAllByJourneyIdInOrderByIdAsc(Collection<Long> journeyIds);
+
+	@Modifying
+	@Query("delete from JourneyTheme jt where jt.journey.id = :journeyId")
+	int deleteAllInBulkByJourneyId(@Param("journeyId") Long journeyId);
 }
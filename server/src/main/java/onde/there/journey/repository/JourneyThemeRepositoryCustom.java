@@ -0,0 +1,9 @@
+package onde.there.journey.repository;
+
+import java.util.Collection;
+import onde.there.domain.type.JourneyThemeType;
+
+public interface JourneyThemeRepositoryCustom {
+
+	void insertAllInBatch(Long journeyId, Collection<JourneyThemeType> journeyThemeTypes);
+}
@@ -0,0 +1,34 @@
+package onde.there.journey.repository;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import onde.there.domain.type.JourneyThemeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * journey_theme_id 가 IDENTITY 라 Hibernate 는 insert 를 배치로 묶지 못하므로
+ * JdbcTemplate 배치 하나로 여정의 테마를 모두 넣는다.
+ */
+@RequiredArgsConstructor
+public class JourneyThemeRepositoryImpl implements JourneyThemeRepositoryCustom {
+
+	private static final String INSERT_SQL =
+		"insert into journey_theme (journey_id, journey_theme_name) values (?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insertAllInBatch(Long journeyId,
+		Collection<JourneyThemeType> journeyThemeTypes) {
+
+		if (journeyThemeTypes.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, journeyThemeTypes, journeyThemeTypes.size(),
+			(ps, journeyThemeType) -> {
+				ps.setLong(1, journeyId);
+				ps.setString(2, journeyThemeType.name());
+			});
+	}
+}
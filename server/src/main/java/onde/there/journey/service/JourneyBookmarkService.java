@@ -1,5 +1,9 @@
 package onde.there.journey.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onde.there.domain.Journey;
@@ -26,6 +30,7 @@ public class JourneyBookmarkService {
 	private final MemberRepository memberRepository;
 	private final JourneyRepository journeyRepository;
 	private final JourneyBookmarkRepositoryImpl journeyBookmarkRepositoryImpl;
+	private final JourneyService journeyService;
 
 	@Transactional
 	public Long createBookmark(Long journeyId, String memberId) {
@@ -41,7 +46,7 @@ public class JourneyBookmarkService {
 			.member(member)
 			.journey(journey)
 			.build());
-		log.info(member.getId() + "님이 " + journey.getTitle() + " 여정을 북마크에 추가했습니다.");
+		log.info("{}님이 {} 여정을 북마크에 추가했습니다.", member.getId(), journey.getTitle());
 		return journeyBookmark.getId();
 	}
 
@@ -51,17 +56,25 @@ public class JourneyBookmarkService {
 			memberId, journeyId).orElseThrow(
 			() -> new JourneyException(JourneyErrorCode.NOT_FOUND_BOOKMARK));
 		journeyBookmarkRepository.delete(journeyBookmark);
-		log.info("북마크 아이디 : " + journeyBookmark.getId() + "가 삭제 되었습니다.");
+		log.info("북마크 아이디 : {}가 삭제 되었습니다.", journeyBookmark.getId());
 	}
 
 	@Transactional(readOnly = true)
 	public Page<JourneyBookmarkPageResponse> getBookmarkList(String memberId, Pageable pageable) {
-		log.info("멤버 아이디 : " + memberId + " 북마크 조회 시작");
+		log.info("멤버 아이디 : {} 북마크 조회 시작", memberId);
 		if (!memberRepository.existsById(memberId)) {
 			throw new JourneyException(JourneyErrorCode.NOT_FOUND_MEMBER);
 		}
 
-		return journeyBookmarkRepositoryImpl.getBookmarkPage(memberId, pageable)
-			.map(JourneyBookmarkPageResponse::fromEntity);
+		Page<JourneyBookmark> bookmarks = journeyBookmarkRepositoryImpl.getBookmarkPage(
+			memberId, pageable);
+		Map<Long, List<String>> journeyThemeMap = journeyService.getJourneyThemeNames(
+			bookmarks.getContent().stream()
+				.map(JourneyBookmark::getJourney)
+				.collect(Collectors.toList()));
+
+		return bookmarks.map(journeyBookmark -> JourneyBookmarkPageResponse.fromEntity(
+			journeyBookmark, journeyThemeMap.getOrDefault(journeyBookmark.getJourney().getId(),
+				new ArrayList<>())));
 	}
 }
@@ -0,0 +1,274 @@
+package onde.there.journey.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import onde.there.domain.Journey;
+import onde.there.domain.JourneyTheme;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.journey.event.JourneyChangedEvent;
+import onde.there.journey.repository.JourneyFilterIndex;
+import onde.there.journey.repository.JourneyRepository;
+import onde.there.journey.repository.JourneySearchIndex;
+import onde.there.journey.repository.JourneyThemeRepository;
+import onde.there.place.repository.PlaceRepositoryCustomImpl;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여정 검색 색인(JourneySearchIndex)과 지역, 테마 비트맵(JourneyFilterIndex)을 DB 와 맞춘다.
+ * 서버가 시작되면 전체 여정으로 색인을 만들고, 이후에는 JourneyChangedEvent 가 커밋된 여정만
+ * 다시 색인한다. 색인은 서버마다 메모리에 있으므로 다시 색인한 여정 아이디를 Redis 채널(journey-index)로
+ * 다른 서버에 알리고, 주기적으로 공개 여정 목록을 DB 와 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JourneyIndexService {
+
+	public static final String CHANNEL = "journey-index";
+
+	private static final int REBUILD_BATCH_SIZE = 500;
+	private static final String NODE_ID = UUID.randomUUID().toString();
+
+	private final JourneyRepository journeyRepository;
+	private final JourneyThemeRepository journeyThemeRepository;
+	private final PlaceRepositoryCustomImpl placeRepositoryCustom;
+	private final JourneySearchIndex journeySearchIndex;
+	private final JourneyFilterIndex journeyFilterIndex;
+	private final StringRedisTemplate redisTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+	private final TransactionTemplate transactionTemplate;
+
+	// rebuild 의 배치 반영과 reindex 의 색인 반영이 섞이지 않게 한다
+	private final Object indexLock = new Object();
+	private final Set<Long> reindexedDuringRebuild = new HashSet<>();
+	private boolean rebuilding;
+
+	/**
+	 * 전체 여정으로 색인을 다시 만든다. 한 트랜잭션으로 전체를 읽으면 시작 시점의 스냅샷이 그 사이 reindex 한
+	 * 최신 값을 덮어쓰므로, 배치마다 짧은 트랜잭션으로 읽고 rebuild 중에 reindex 한 여정은 건너뛴다.
+	 * 배치를 반영할 때마다 검색 색인을 새로 고친다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		log.info("rebuild : 여정 색인 생성 시작");
+		synchronized (indexLock) {
+			rebuilding = true;
+			reindexedDuringRebuild.clear();
+			journeyFilterIndex.setReady(false);
+			journeySearchIndex.deleteAll();
+			journeyFilterIndex.clear();
+		}
+
+		try {
+			int count = 0;
+			int skipped = 0;
+			long lastId = 0;
+			Slice<Journey> journeys;
+			do {
+				long afterId = lastId;
+				Batch batch = transactionTemplate.execute(status -> findBatch(afterId));
+				journeys = batch.journeys;
+				if (!journeys.hasContent()) {
+					break;
+				}
+
+				synchronized (indexLock) {
+					for (Journey journey : journeys) {
+						if (reindexedDuringRebuild.contains(journey.getId())) {
+							skipped++;
+							continue;
+						}
+						index(journey, batch.placeNames.getOrDefault(journey.getId(), new ArrayList<>()),
+							batch.themes.getOrDefault(journey.getId(), new ArrayList<>()));
+						count++;
+					}
+				}
+				journeySearchIndex.refresh();
+				lastId = journeys.getContent().get(journeys.getNumberOfElements() - 1).getId();
+			} while (journeys.hasNext());
+
+			journeyFilterIndex.setReady(true);
+			log.info("rebuild : 여정 색인 생성 완료 (여정 수 : {}, 생성 중 갱신되어 건너뛴 여정 수 : {})",
+				count, skipped);
+		} finally {
+			synchronized (indexLock) {
+				rebuilding = false;
+				reindexedDuringRebuild.clear();
+			}
+			journeySearchIndex.refresh();
+		}
+	}
+
+	// 색인은 다음 rebuild 전까지 남으므로 replica 가 아닌 primary 에서 읽는다 (transactionTemplate 은 readOnly 가 아니다)
+	private Batch findBatch(long afterId) {
+		Slice<Journey> journeys = journeyRepository.findAllByIdGreaterThan(afterId,
+			PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id")));
+		List<Long> journeyIds = journeys.getContent().stream()
+			.map(Journey::getId)
+			.collect(Collectors.toList());
+		if (journeyIds.isEmpty()) {
+			return new Batch(journeys, new HashMap<>(), new HashMap<>());
+		}
+
+		Map<Long, List<String>> placeNames = placeRepositoryCustom
+			.findPlaceNamesByJourneyIds(journeyIds);
+		Map<Long, List<JourneyThemeType>> themes = new HashMap<>();
+		for (JourneyTheme journeyTheme : journeyThemeRepository
+			.findAllByJourneyIdInOrderByIdAsc(journeyIds)) {
+			themes.computeIfAbsent(journeyTheme.getJourney().getId(),
+				key -> new ArrayList<>()).add(journeyTheme.getJourneyThemeName());
+		}
+		return new Batch(journeys, placeNames, themes);
+	}
+
+	@Async
+	@TransactionalEventListener(fallbackExecution = true)
+	// 방금 커밋된 여정을 읽어야 하므로 readOnly 로 두지 않는다 (readOnly 면 replica 에서 읽는다)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onJourneyChanged(JourneyChangedEvent event) {
+		reindex(event.getJourneyId());
+		publish(event.getJourneyId());
+	}
+
+	/**
+	 * 여정 하나를 DB 의 현재 값으로 다시 색인한다. 여정이 없으면 색인에서 지운다.
+	 */
+	@Transactional
+	public void reindex(Long journeyId) {
+		update(journeyId);
+		journeySearchIndex.refresh();
+	}
+
+	/**
+	 * rebuild 중이면 rebuild 가 더 오래된 스냅샷으로 덮어쓰지 않도록 아이디를 남긴다.
+	 * DB 는 잠금 밖에서 읽고, 표시와 색인 반영만 rebuild 의 배치 반영과 같은 잠금 안에서 한다.
+	 * 검색 색인은 새로 고치지 않으므로 호출한 쪽에서 refresh 한다.
+	 */
+	private void update(Long journeyId) {
+		// 다른 서버에서 바뀐 여정은 2차 캐시 무효화 메시지보다 먼저 도착할 수 있으므로 캐시를 거치지 않는다
+		entityManagerFactory.getCache().evict(Journey.class, journeyId);
+		Optional<Journey> journey = journeyRepository.findById(journeyId);
+		if (journey.isEmpty()) {
+			synchronized (indexLock) {
+				markReindexed(journeyId);
+				journeySearchIndex.delete(journeyId);
+				journeyFilterIndex.remove(journeyId);
+			}
+			log.info("reindex : 여정 색인 삭제 (여정 아이디 : {})", journeyId);
+			return;
+		}
+
+		List<JourneyThemeType> themes = journey.get().getThemeMask() != null
+			? journey.get().themeTypes()
+			: journeyThemeRepository.findAllByJourneyId(journeyId)
+				.stream()
+				.map(JourneyTheme::getJourneyThemeName)
+				.collect(Collectors.toList());
+		List<String> placeNames = placeRepositoryCustom
+			.findPlaceNamesByJourneyIds(Collections.singletonList(journeyId))
+			.getOrDefault(journeyId, new ArrayList<>());
+		synchronized (indexLock) {
+			markReindexed(journeyId);
+			index(journey.get(), placeNames, themes);
+		}
+		log.info("reindex : 여정 색인 갱신 (여정 아이디 : {})", journeyId);
+	}
+
+	/**
+	 * 메시지가 유실됐거나 색인 중 실패한 경우를 위해 주기적으로 색인의 공개 여정을 DB 와 비교하고,
+	 * 다른 여정만 다시 색인한다.
+	 */
+	@Scheduled(fixedDelayString = "${search.journey.reconcile-interval-ms:600000}",
+		initialDelayString = "${search.journey.reconcile-interval-ms:600000}")
+	@Transactional
+	public void reconcile() {
+		if (!journeyFilterIndex.isReady()) {
+			return;
+		}
+
+		// DB 의 공개 여정 XOR 색인의 공개 여정 = 한쪽에만 있는 여정
+		Roaring64NavigableMap differentIds = new Roaring64NavigableMap();
+		journeyRepository.findIdsByDisclosure("public").forEach(differentIds::addLong);
+		differentIds.xor(journeyFilterIndex.publicJourneyIds());
+		differentIds.forEach(this::update);
+
+		if (!differentIds.isEmpty()) {
+			journeySearchIndex.refresh();
+			log.warn("reconcile : DB 와 다른 여정 다시 색인 (여정 수 : {})",
+				differentIds.getLongCardinality());
+		}
+	}
+
+	private void markReindexed(Long journeyId) {
+		if (rebuilding) {
+			reindexedDuringRebuild.add(journeyId);
+		}
+	}
+
+	private void publish(Long journeyId) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, NODE_ID + ":" + journeyId);
+		} catch (DataAccessException e) {
+			log.error("publish : 여정 색인 갱신 알림 실패 (여정 아이디 : {})", journeyId, e);
+		}
+	}
+
+	/**
+	 * 다른 서버에서 색인한 여정을 이 서버에서도 다시 색인한다. 메시지 형식 : {서버 id}:{여정 id}
+	 */
+	@Transactional
+	public void onMessage(String message) {
+		String[] body = message.split(":", 2);
+		if (body.length != 2 || NODE_ID.equals(body[0])) {
+			return;
+		}
+		reindex(Long.valueOf(body[1]));
+	}
+
+	private void index(Journey journey, List<String> placeNames,
+		List<JourneyThemeType> themes) {
+		journeySearchIndex.index(journey.getId(), journey.getTitle(),
+			journey.getIntroductionText(), placeNames);
+		journeyFilterIndex.update(journey.getId(), "public".equals(journey.getDisclosure()),
+			journey.getRegion(), themes);
+	}
+
+	private static class Batch {
+
+		private final Slice<Journey> journeys;
+		private final Map<Long, List<String>> placeNames;
+		private final Map<Long, List<JourneyThemeType>> themes;
+
+		private Batch(Slice<Journey> journeys, Map<Long, List<String>> placeNames,
+			Map<Long, List<JourneyThemeType>> themes) {
+			this.journeys = journeys;
+			this.placeNames = placeNames;
+			this.themes = themes;
+		}
+	}
+}
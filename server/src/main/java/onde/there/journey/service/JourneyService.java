@@ -6,18 +6,22 @@ import static onde.there.journey.exception.JourneyErrorCode.NOT_FOUND_JOURNEY;
 import static onde.there.journey.exception.JourneyErrorCode.NOT_FOUND_MEMBER;
 import static onde.there.journey.exception.JourneyErrorCode.YOU_ARE_NOT_THE_AUTHOR;
 
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onde.there.domain.Journey;
-import onde.there.domain.JourneyTheme;
 import onde.there.domain.Member;
-import onde.there.domain.Place;
 import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.RegionType;
 import onde.there.dto.journy.JourneyDto;
 import onde.there.dto.journy.JourneyDto.DetailResponse;
 import onde.there.dto.journy.JourneyDto.FilteringResponse;
@@ -25,18 +29,28 @@ import onde.there.dto.journy.JourneyDto.JourneyListResponse;
 import onde.there.dto.journy.JourneyDto.MyListResponse;
 import onde.there.dto.journy.JourneyDto.UpdateRequest;
 import onde.there.dto.journy.JourneyDto.UpdateResponse;
+import onde.there.image.event.ImageDeleteEvent;
+import onde.there.image.event.ImageUploadEvent;
 import onde.there.image.service.AwsS3Service;
+import onde.there.journey.event.JourneyChangedEvent;
 import onde.there.journey.exception.JourneyException;
+import onde.there.journey.repository.JourneyBookmarkRepository;
 import onde.there.journey.repository.JourneyRepository;
 import onde.there.journey.repository.JourneyThemeRepository;
 import onde.there.member.repository.MemberRepository;
 import onde.there.place.exception.PlaceErrorCode;
 import onde.there.place.exception.PlaceException;
 import onde.there.place.repository.PlaceRepository;
-import org.springframework.data.domain.Page;
+import onde.there.place.service.PlaceService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -44,13 +58,24 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class JourneyService {
 
+	private static final int IN_CLAUSE_SIZE = 1000;
+	private static final int MAX_FEED_SIZE = 50;
+	private static final int THEME_MASK_BACKFILL_BATCH_SIZE = 500;
+
 	private final JourneyRepository journeyRepository;
 	private final JourneyThemeRepository journeyThemeRepository;
 	private final MemberRepository memberRepository;
 	private final AwsS3Service awsS3Service;
 	private final PlaceRepository placeRepository;
-
-	@Transactional
+	private final PlaceService placeService;
+	private final JourneyBookmarkRepository journeyBookmarkRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 썸네일은 트랜잭션 밖에서 업로드하고, 저장에 실패하면 업로드한 썸네일을 지운다.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public JourneyDto.CreateResponse createJourney(
 		JourneyDto.CreateRequest request, MultipartFile thumbnail,
 		String memberId) {
@@ -64,11 +89,15 @@ public class JourneyService {
 			throw new JourneyException(DATE_ERROR);
 		}
 
+		EnumSet<JourneyThemeType> themeTypes = JourneyThemeType.findAllByTheme(
+			request.getJourneyThemes());
+		RegionType region = findByRegion(request.getRegion());
+
 		List<String> imageUrls = awsS3Service.uploadFiles(
 			Collections.singletonList(thumbnail));
 
-		log.info("createJourney() : 여정 thumbnail 업로드 완료, "
-			+ "(여정 thumbnail URL : " + imageUrls.get(0) + ")");
+		log.info("createJourney() : 여정 thumbnail 업로드 완료, (여정 thumbnail URL : {})",
+			imageUrls.get(0));
 
 		Journey journey = Journey.builder()
 			.member(checkMember)
@@ -79,75 +108,92 @@ public class JourneyService {
 			.disclosure(request.getDisclosure())
 			.introductionText(request.getIntroductionText())
 			.numberOfPeople(request.getNumberOfPeople())
-			.region(findByRegion(request.getRegion()))
+			.region(region)
+			.themeMask(JourneyThemeType.toMask(themeTypes))
 			.build();
 
-		journeyRepository.save(journey);
-		log.info("createJourney() : 여정 생성 완료,  JourneyId : " + journey.getId());
-
-		List<String> inputJourneyThemes = request.getJourneyThemes();
-		for (String inputJourneyTheme : inputJourneyThemes) {
-			JourneyTheme journeyTheme = JourneyTheme.builder()
-				.journey(journey)
-				.journeyThemeName(
-					JourneyThemeType.findByTheme(inputJourneyTheme))
-				.build();
-			journeyThemeRepository.save(journeyTheme);
-			log.info(
-				"createJourney() : journeyTheme 생성 완료, journeyThemeId : "
-					+ journeyTheme.getId());
-		}
+		executeOrDeleteImages(imageUrls, () -> {
+			journeyRepository.save(journey);
+			log.info("createJourney() : 여정 생성 완료, JourneyId : {}", journey.getId());
+
+			journeyThemeRepository.insertAllInBatch(journey.getId(), themeTypes);
+			log.info("createJourney() : journeyTheme 생성 완료, 테마 수 : {}", themeTypes.size());
+
+			eventPublisher.publishEvent(new JourneyChangedEvent(journey.getId()));
+			eventPublisher.publishEvent(new ImageUploadEvent(imageUrls));
+			return journey;
+		});
 
 		log.info("createJourney() : 종료");
 		return JourneyDto.CreateResponse.fromEntity(journey,
-			inputJourneyThemes);
+			request.getJourneyThemes());
 	}
 
-	public List<JourneyDto.JourneyListResponse> list() {
+	public JourneyDto.JourneyFeedResponse list(Long cursor, int size) {
 
 		log.info("list() : 호출");
 
-		List<JourneyDto.JourneyListResponse> list = new ArrayList<>();
+		int feedSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+
 		List<Journey> journeyList = journeyRepository
-			.findAllByDisclosure("public");
+			.findPublicFeed(cursor, feedSize + 1);
+
+		boolean hasNext = journeyList.size() > feedSize;
+		if (hasNext) {
+			journeyList = journeyList.subList(0, feedSize);
+		}
+
+		List<JourneyListResponse> list = getList(new ArrayList<>(),
+			journeyList);
+
+		Long nextCursor = journeyList.isEmpty() ? null
+			: journeyList.get(journeyList.size() - 1).getId();
 
 		log.info("list() : 종료");
 
-		return getList(list, journeyList);
+		return JourneyDto.JourneyFeedResponse.builder()
+			.content(list)
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
 	}
 
 	@Transactional
-	public Page<JourneyDto.MyListResponse> myList(
-		String memberId, Pageable pageable) {
+	public Slice<JourneyDto.MyListResponse> myList(
+		String memberId, Pageable pageable, boolean includeTotal) {
 
 		log.info("myList() : 호출");
 
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new JourneyException(NOT_FOUND_MEMBER));
 
-		Page<Journey> journeys = journeyRepository.myList(memberId, pageable);
+		Slice<Journey> journeys = journeyRepository.myList(memberId, pageable,
+			includeTotal);
+		Map<Long, List<String>> journeyThemeMap = getJourneyThemeNames(
+			journeys.getContent());
 
 		log.info("myList() : 조회 완료");
 
-		return journeys.map(
-			MyListResponse::fromEntity
-		);
+		return journeys.map(journey -> MyListResponse.fromEntity(journey,
+			journeyThemeMap.getOrDefault(journey.getId(), new ArrayList<>())));
 	}
 
 	@Transactional
-	public Page<FilteringResponse> filteredList(
-		JourneyDto.FilteringRequest filteringRequest, Pageable pageable) {
+	public Slice<FilteringResponse> filteredList(
+		JourneyDto.FilteringRequest filteringRequest, Pageable pageable,
+		boolean includeTotal) {
 
 		log.info("filteredList() : 호출");
 
-		Page<Journey> journeys = journeyRepository.searchAll(filteringRequest,
-			pageable);
+		Slice<Journey> journeys = journeyRepository.searchAll(filteringRequest,
+			pageable, includeTotal);
+		Map<Long, List<String>> journeyThemeMap = getJourneyThemeNames(
+			journeys.getContent());
 
 		log.info("filteredList() : 종료");
 
-		return journeys.map(
-			FilteringResponse::fromEntity
-		);
+		return journeys.map(journey -> FilteringResponse.fromEntity(journey,
+			journeyThemeMap.getOrDefault(journey.getId(), new ArrayList<>())));
 
 	}
 
@@ -157,16 +203,11 @@ public class JourneyService {
 
 		log.info("getList() : 호출");
 
-		for (Journey journey : journeyList) {
-			List<String> journeyThemeTypeList = journeyThemeRepository
-				.findAllByJourneyId(journey.getId())
-				.stream().map(journeyTheme -> journeyTheme
-					.getJourneyThemeName()
-					.getThemeName())
-				.collect(Collectors.toList());
+		Map<Long, List<String>> journeyThemeMap = getJourneyThemeNames(journeyList);
 
-			list.add(
-				JourneyListResponse.fromEntity(journey, journeyThemeTypeList));
+		for (Journey journey : journeyList) {
+			list.add(JourneyListResponse.fromEntity(journey,
+				journeyThemeMap.getOrDefault(journey.getId(), new ArrayList<>())));
 		}
 
 		log.info("getList() : 종료");
@@ -174,6 +215,30 @@ public class JourneyService {
 		return list;
 	}
 
+	// themeMask 가 채워진 여정은 journey_theme 를 조회하지 않는다
+	Map<Long, List<String>> getJourneyThemeNames(List<Journey> journeyList) {
+
+		Map<Long, List<String>> journeyThemeMap = new HashMap<>();
+		List<Long> journeyIds = new ArrayList<>();
+		for (Journey journey : journeyList) {
+			if (journey.getThemeMask() != null) {
+				journeyThemeMap.put(journey.getId(), journey.themeNames());
+			} else {
+				journeyIds.add(journey.getId());
+			}
+		}
+
+		for (List<Long> partition : Lists.partition(journeyIds, IN_CLAUSE_SIZE)) {
+			journeyThemeRepository.findAllByJourneyIdInOrderByIdAsc(partition)
+				.forEach(journeyTheme -> journeyThemeMap
+					.computeIfAbsent(journeyTheme.getJourney().getId(),
+						journeyId -> new ArrayList<>())
+					.add(journeyTheme.getJourneyThemeName().getThemeName()));
+		}
+
+		return journeyThemeMap;
+	}
+
 	public DetailResponse journeyDetail(Long journeyId) {
 
 		log.info("journeyDetail() : 호출");
@@ -181,20 +246,55 @@ public class JourneyService {
 		Journey journey = journeyRepository.findById(journeyId)
 			.orElseThrow(() -> new JourneyException(NOT_FOUND_JOURNEY));
 
-		List<String> journeyThemeTypeList = journeyThemeRepository
-			.findAllByJourneyId(journey.getId())
-			.stream().map(journeyTheme -> journeyTheme
-				.getJourneyThemeName()
-				.getThemeName())
-			.collect(Collectors.toList());
-		log.info(
-			"journeyDetail() : journey 조회 완료, journeyId : " + journey.getId());
+		List<String> journeyThemeTypeList = journey.getThemeMask() != null
+			? journey.themeNames()
+			: journeyThemeRepository.findAllByJourneyId(journey.getId())
+				.stream().map(journeyTheme -> journeyTheme
+					.getJourneyThemeName()
+					.getThemeName())
+				.collect(Collectors.toList());
+		log.info("journeyDetail() : journey 조회 완료, journeyId : {}", journey.getId());
 
 		log.info("journeyDetail() : 종료");
 
 		return DetailResponse.fromEntity(journey, journeyThemeTypeList);
 	}
 
+	/**
+	 * theme_mask 컬럼이 추가되기 전에 저장된 여정의 themeMask 를 journey_theme 로부터 채운다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public void backfillThemeMask() {
+		int count = 0;
+		Integer updated;
+		do {
+			updated = transactionTemplate.execute(status -> {
+				List<Journey> journeys = journeyRepository.findTop500ByThemeMaskIsNull();
+				if (journeys.isEmpty()) {
+					return 0;
+				}
+				Map<Long, EnumSet<JourneyThemeType>> themeTypes = new HashMap<>();
+				journeyThemeRepository.findAllByJourneyIdInOrderByIdAsc(journeys.stream()
+						.map(Journey::getId)
+						.collect(Collectors.toList()))
+					.forEach(journeyTheme -> themeTypes
+						.computeIfAbsent(journeyTheme.getJourney().getId(),
+							journeyId -> EnumSet.noneOf(JourneyThemeType.class))
+						.add(journeyTheme.getJourneyThemeName()));
+				journeys.forEach(journey -> journey.setThemeMask(JourneyThemeType.toMask(
+					themeTypes.getOrDefault(journey.getId(),
+						EnumSet.noneOf(JourneyThemeType.class)))));
+				return journeys.size();
+			});
+			count += updated == null ? 0 : updated;
+		} while (updated != null && updated == THEME_MASK_BACKFILL_BATCH_SIZE);
+
+		if (count > 0) {
+			log.info("backfillThemeMask() : 여정 themeMask 채우기 완료, 여정 수 : {}", count);
+		}
+	}
+
 	@Transactional
 	public void deleteJourney(Long journeyId, String memberId) {
 
@@ -208,72 +308,98 @@ public class JourneyService {
 			throw new JourneyException(YOU_ARE_NOT_THE_AUTHOR);
 		}
 
-		List<JourneyTheme> journeyThemeTypeList = journeyThemeRepository
-			.findAllByJourneyId(journey.getId());
-
-		List<Place> list = placeRepository.findAllByJourneyIdOrderByPlaceTimeAsc(journeyId);
+		List<Long> placeIds = placeRepository.findIdsByJourneyId(journeyId);
 
-		if (list.size() == 0) {
+		if (placeIds.size() == 0) {
 			throw new PlaceException(PlaceErrorCode.DELETED_NOTING);
 		}
 
-		placeRepository.deleteAll(list);
-		awsS3Service.deleteFile(journey.getJourneyThumbnailUrl());
-		journeyThemeRepository.deleteAll(journeyThemeTypeList);
+		placeService.deletePlacesInBulk(placeIds);
+		journeyThemeRepository.deleteAllInBulkByJourneyId(journeyId);
+		journeyBookmarkRepository.deleteAllInBulkByJourneyId(journeyId);
 		journeyRepository.delete(journey);
+		if (journey.getJourneyThumbnailUrl() != null) {
+			eventPublisher.publishEvent(new ImageDeleteEvent(
+				Collections.singletonList(journey.getJourneyThumbnailUrl())));
+		}
 
-		log.info("deleteJourney() : 여정 삭제 완료, journeyId : " + journey.getId());
+		eventPublisher.publishEvent(new JourneyChangedEvent(journeyId));
+
+		log.info("deleteJourney() : 여정 삭제 완료, journeyId : {}", journey.getId());
 		log.info("deleteJourney() : 종료");
 
 	}
 
-	@Transactional
+	/**
+	 * 새 썸네일은 트랜잭션 밖에서 업로드하고, 수정에 실패하면 새 썸네일을 지운다.
+	 * 기존 썸네일은 커밋된 뒤 ImageDeleteEvent 로 지운다.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public UpdateResponse updateJourney(UpdateRequest request,
 		MultipartFile thumbnail, String memberId) {
 
 		log.info("updateJourney() : 호출");
 
-		Journey journey = journeyRepository.findById(request.getJourneyId())
-			.orElseThrow(() -> new JourneyException(NOT_FOUND_JOURNEY));
+		checkAuthor(journeyRepository.findById(request.getJourneyId())
+			.orElseThrow(() -> new JourneyException(NOT_FOUND_JOURNEY)), memberId);
 
-		String Author = journey.getMember().getId();
-		if (!Objects.equals(Author, memberId)) {
-			throw new JourneyException(YOU_ARE_NOT_THE_AUTHOR);
-		}
+		EnumSet<JourneyThemeType> themeTypes = JourneyThemeType.findAllByTheme(
+			request.getJourneyThemes());
+		RegionType region = findByRegion(request.getRegion());
 
-		awsS3Service.deleteFile(journey.getJourneyThumbnailUrl());
 		List<String> imageUrls = awsS3Service.uploadFiles(
 			Collections.singletonList(thumbnail));
 
-		List<JourneyTheme> journeyThemes = journeyThemeRepository
-			.findAllByJourneyId(journey.getId());
-
-		journeyThemeRepository.deleteAll(journeyThemes);
-		List<String> inputJourneyThemes = request.getJourneyThemes();
-		for (String inputJourneyTheme : inputJourneyThemes) {
-			JourneyTheme journeyTheme = JourneyTheme.builder()
-				.journey(journey)
-				.journeyThemeName(
-					JourneyThemeType.findByTheme(inputJourneyTheme))
-				.build();
-			journeyThemeRepository.save(journeyTheme);
-		}
-		log.info("updateJourney() : journeyTheme 수정 완료");
-
-		journey.setTitle(request.getTitle());
-		journey.setStartDate(request.getStartDate());
-		journey.setEndDate(request.getEndDate());
-		journey.setNumberOfPeople(request.getNumberOfPeople());
-		journey.setDisclosure(request.getDisclosure());
-		journey.setIntroductionText(request.getIntroductionText());
-		journey.setJourneyThumbnailUrl(imageUrls.get(0));
-		journey.setRegion(findByRegion(request.getRegion()));
-		log.info("updateJourney() : journey 수정 완료, journeyId : "
-			+ journey.getId());
+		Journey journey = executeOrDeleteImages(imageUrls, () -> {
+			Journey updated = journeyRepository.findById(request.getJourneyId())
+				.orElseThrow(() -> new JourneyException(NOT_FOUND_JOURNEY));
+			checkAuthor(updated, memberId);
+			String oldThumbnailUrl = updated.getJourneyThumbnailUrl();
+
+			journeyThemeRepository.deleteAllInBulkByJourneyId(updated.getId());
+			journeyThemeRepository.insertAllInBatch(updated.getId(), themeTypes);
+			log.info("updateJourney() : journeyTheme 수정 완료");
+
+			updated.setTitle(request.getTitle());
+			updated.setStartDate(request.getStartDate());
+			updated.setEndDate(request.getEndDate());
+			updated.setNumberOfPeople(request.getNumberOfPeople());
+			updated.setDisclosure(request.getDisclosure());
+			updated.setIntroductionText(request.getIntroductionText());
+			updated.setJourneyThumbnailUrl(imageUrls.get(0));
+			updated.setJourneyThumbnailVariantReady(false);
+			updated.setRegion(region);
+			updated.setThemeMask(JourneyThemeType.toMask(themeTypes));
+			log.info("updateJourney() : journey 수정 완료, journeyId : {}", updated.getId());
+
+			if (oldThumbnailUrl != null) {
+				eventPublisher.publishEvent(new ImageDeleteEvent(
+					Collections.singletonList(oldThumbnailUrl)));
+			}
+			eventPublisher.publishEvent(new JourneyChangedEvent(updated.getId()));
+			eventPublisher.publishEvent(new ImageUploadEvent(imageUrls));
+			return updated;
+		});
 
 		log.info("updateJourney() : 종료");
 
 		return JourneyDto.UpdateResponse
-			.fromEntity(journey, inputJourneyThemes);
+			.fromEntity(journey, request.getJourneyThemes());
+	}
+
+	private void checkAuthor(Journey journey, String memberId) {
+		if (!Objects.equals(journey.getMember().getId(), memberId)) {
+			throw new JourneyException(YOU_ARE_NOT_THE_AUTHOR);
+		}
+	}
+
+	private <T> T executeOrDeleteImages(List<String> imageUrls, Supplier<T> action) {
+		try {
+			return transactionTemplate.execute(status -> action.get());
+		} catch (RuntimeException e) {
+			log.warn("DB 저장 실패로 업로드한 이미지 삭제 (이미지 갯수 : {})", imageUrls.size());
+			awsS3Service.deleteFiles(imageUrls);
+			throw e;
+		}
 	}
 }
@@ -20,6 +20,9 @@ import java.util.stream.Collectors;
 public class LogConfig {
     @Around("within(onde.there.member.controller..*))") // ex. within(me.shinsunyoung.demo..*)) 1
     public Object logging(ProceedingJoinPoint pjp) throws Throwable { // 2
+        if (!log.isInfoEnabled()) {
+            return pjp.proceed();
+        }
 
         String params = getRequestParams(); // request 값 가져오기
 
@@ -6,6 +6,9 @@ import onde.there.member.security.jwt.JwtExceptionFilter;
 import onde.there.member.security.jwt.JwtService;
 import onde.there.member.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import onde.there.member.security.oauth2.Oauth2MemberService;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -67,6 +70,8 @@ public class SecurityConfig {
                 .and()
                 .authorizeRequests()
                 .antMatchers(notAuthPaths).permitAll()
+                // Prometheus 수집용, 운영에서는 management.server.port 로 내부망 포트에서만 열린다
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .oauth2Login()
@@ -2,9 +2,10 @@ package onde.there.member.security.jwt;
 
 
 import lombok.extern.slf4j.Slf4j;
+import onde.there.config.MdcLoggingFilter;
 import onde.there.member.exception.MemberException;
 import onde.there.member.exception.type.MemberErrorCode;
-import onde.there.member.type.TokenType;
+import org.slf4j.MDC;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -32,9 +33,9 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         String token = resolveToken((HttpServletRequest) request);
 
         if (token != null) {
-            jwtService.validateToken(token, TokenType.ACCESS);
-            Authentication authentication = jwtService.getAuthentication(token);
+            Authentication authentication = jwtService.authenticate(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            MDC.put(MdcLoggingFilter.MEMBER_ID, authentication.getName());
         }
 
         chain.doFilter(request, response);
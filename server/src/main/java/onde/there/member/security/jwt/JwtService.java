@@ -1,7 +1,13 @@
 package onde.there.member.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.*;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import onde.there.domain.Member;
 import onde.there.dto.member.MemberDto;
@@ -17,13 +23,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtService {
     @Value("spring.jwt.secret")
     private String secretKey;
@@ -31,6 +38,24 @@ public class JwtService {
     private static final String BEARER_TYPE = "Bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME =  30 * 60 * 1000L;              // 30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;    // 7일
+    private static final String ACCESS_TOKEN_CACHE_NAME = "jwtAccessToken";
+    private static final String VALIDATION_METRIC_NAME = "jwt.validations";
+
+    private final MeterRegistry meterRegistry;
+
+    // 검증이 끝난 액세스 토큰의 claims (key : 토큰의 SHA-256), 토큰 만료 시각에 제거
+    private final Cache<String, Claims> accessTokenCache;
+
+    public JwtService(MeterRegistry meterRegistry,
+                      @Value("${jwt.access-token-cache.maximum-size:10000}") long maximumSize) {
+        this.meterRegistry = meterRegistry;
+        this.accessTokenCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new AccessTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, accessTokenCache, ACCESS_TOKEN_CACHE_NAME);
+    }
 
     public MemberDto.SigninResponse generateToken(Authentication authentication) {
         long now = (new Date()).getTime();
@@ -68,8 +93,22 @@ public class JwtService {
                 .build();
     }
 
+    /**
+     * 액세스 토큰을 검증하고 인증 정보를 반환한다.
+     * 한 번 검증한 토큰은 만료될 때까지 캐시된 claims 를 사용하므로 서명 검증, 파싱을 다시 하지 않는다.
+     */
+    public Authentication authenticate(String accessToken) {
+        String key = Hashing.sha256().hashString(accessToken, StandardCharsets.UTF_8).toString();
+        Claims claims = accessTokenCache.get(key,
+                k -> parseClaimsJws(accessToken, TokenType.ACCESS));
+        return toAuthentication(claims);
+    }
+
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return toAuthentication(parseClaims(accessToken));
+    }
+
+    private Authentication toAuthentication(Claims claims) {
         Collection<? extends GrantedAuthority> authorities = new HashSet<>();
         UserDetails principal = Member.builder()
                                       .id(claims.getSubject())
@@ -87,9 +126,16 @@ public class JwtService {
 
 
     public void validateToken(String token, TokenType tokenType) {
+        parseClaimsJws(token, tokenType);
+    }
+
+    private Claims parseClaimsJws(String token, TokenType tokenType) {
+        Claims claims = null;
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+            claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            countValidation(tokenType, "valid");
         } catch (MalformedJwtException e) {
+            countValidation(tokenType, "malformed");
             log.error("지원 하지 않는 토큰");
             logToken(log, tokenType, token);
             switch (tokenType) {
@@ -99,6 +145,7 @@ public class JwtService {
                     throw new MemberException(MemberErrorCode.INVALID_REFRESH_TOKEN);
             }
         } catch (ExpiredJwtException e) {
+            countValidation(tokenType, "expired");
             log.error("만료된 토큰");
             logToken(log, tokenType, token);
             switch (tokenType) {
@@ -108,10 +155,12 @@ public class JwtService {
                     throw new MemberException(MemberErrorCode.EXPIRED_REFRESH_TOKEN);
             }
         } catch (UnsupportedJwtException e) {
+            countValidation(tokenType, "unsupported");
             log.error("지원 하지 않는 토큰");
             logToken(log, tokenType, token);
             throw new MemberException(MemberErrorCode.TOKEN_CLAIMS_EMPTY);
         } catch (JwtException e) {
+            countValidation(tokenType, "invalid");
             log.error("변조된 토큰");
             logToken(log, tokenType, token);
             switch (tokenType) {
@@ -121,10 +170,44 @@ public class JwtService {
                     throw new MemberException(MemberErrorCode.INVALID_REFRESH_TOKEN);
             }
         }
+        return claims;
+    }
+
+    private void countValidation(TokenType tokenType, String result) {
+        Counter.builder(VALIDATION_METRIC_NAME)
+                .tag("type", tokenType.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
     }
 
     private void logToken(Logger log, TokenType tokenType, String token) {
         log.error("TOKEN Type => {}", tokenType.name());
         log.error("token => {}", token);
     }
+
+    private static class AccessTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return TimeUnit.MILLISECONDS.toNanos(ACCESS_TOKEN_EXPIRE_TIME);
+            }
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0, Math.min(remaining, ACCESS_TOKEN_EXPIRE_TIME)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -16,9 +16,12 @@ import org.springframework.security.config.annotation.authentication.builders.Au
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +39,7 @@ public class MemberService {
     private final JwtService jwtService;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final AwsS3Service awsS3Service;
+    private final TransactionTemplate transactionTemplate;
 
     public boolean checkId(MemberDto.CheckIdRequest checkIdRequest) {
         return !memberRepository.existsById(checkIdRequest.getId());
@@ -151,24 +155,18 @@ public class MemberService {
         return signinResponse;
     }
 
-    @Transactional
+    /**
+     * 새 프로필 이미지는 트랜잭션 밖에서 업로드하고, 수정에 실패하면 업로드한 이미지를 지운다.
+     * 기존 프로필 이미지는 소셜 로그인 프로필 url 일 수 있어 지우지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Member update(MultipartFile multipartFile, MemberDto.UpdateRequest updateRequest) {
-        Member member = memberRepository.findById(updateRequest.getId())
-                .orElseThrow(() -> {
-                    MemberException memberException = new MemberException(MemberErrorCode.MEMBER_NOT_FOUND);
-                    log.error("memberService.update Error");
-                    log.error("request id => {}", updateRequest);
-                    log.error("exception => {}", memberException.toString());
-                    return memberException;
-                });
-
+        Member member = findMemberForUpdate(updateRequest);
 
-        String profileUrl = null;
-        if (multipartFile.isEmpty()) {
-            profileUrl = member.getProfileImageUrl();
-        } else {
-            profileUrl = awsS3Service.uploadFiles(List.of(multipartFile)).get(0);
-        }
+        List<String> uploadedUrls = multipartFile.isEmpty() ? Collections.emptyList()
+                : awsS3Service.uploadFiles(List.of(multipartFile));
+        String profileUrl = uploadedUrls.isEmpty() ? member.getProfileImageUrl()
+                : uploadedUrls.get(0);
 
         String encodedPassword = null;
 
@@ -178,7 +176,30 @@ public class MemberService {
             encodedPassword= passwordEncoder.encode(updateRequest.getPassword());
         }
 
-        member.update(updateRequest, encodedPassword, profileUrl);
-        return member;
+        String password = encodedPassword;
+        try {
+            return transactionTemplate.execute(status -> {
+                Member updated = findMemberForUpdate(updateRequest);
+                updated.update(updateRequest, password, profileUrl);
+                return updated;
+            });
+        } catch (RuntimeException e) {
+            if (!uploadedUrls.isEmpty()) {
+                log.warn("DB 저장 실패로 업로드한 프로필 이미지 삭제 (이미지 갯수 : {})", uploadedUrls.size());
+                awsS3Service.deleteFiles(uploadedUrls);
+            }
+            throw e;
+        }
+    }
+
+    private Member findMemberForUpdate(MemberDto.UpdateRequest updateRequest) {
+        return memberRepository.findById(updateRequest.getId())
+                .orElseThrow(() -> {
+                    MemberException memberException = new MemberException(MemberErrorCode.MEMBER_NOT_FOUND);
+                    log.error("memberService.update Error");
+                    log.error("request id => {}", updateRequest);
+                    log.error("exception => {}", memberException.toString());
+                    return memberException;
+                });
     }
 }
@@ -0,0 +1,241 @@
+package onde.there.member.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import onde.there.member.exception.MemberException;
+import onde.there.member.exception.type.MemberErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 전용 파이프라인
+ * <p>
+ * 요청 스레드는 메일을 크기가 정해진 큐에 넣기만 하고, 발송 스레드가 큐에서 batch-size 만큼 꺼내
+ * 한 번의 SMTP 연결로 보낸다. 큐가 가득 차면 enqueue-timeout-ms 동안 기다린 뒤 MAIL_QUEUE_FULL 로
+ * 실패한다. 발송에 실패한 메일은 retry-backoff-ms 부터 두 배씩 늘어나는 간격으로 max-attempts 번까지
+ * 다시 보낸다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 100L;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000L;
+
+    private final JavaMailSender javaMailSender;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<PendingMail> queue;
+    private final DelayQueue<PendingMail> retryQueue = new DelayQueue<>();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long enqueueTimeoutMs;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+
+    public MailDispatcher(JavaMailSender javaMailSender, MeterRegistry meterRegistry,
+                          @Value("${mail.dispatcher.queue-capacity:500}") int queueCapacity,
+                          @Value("${mail.dispatcher.batch-size:20}") int batchSize,
+                          @Value("${mail.dispatcher.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.dispatcher.retry-backoff-ms:1000}") long retryBackoffMs,
+                          @Value("${mail.dispatcher.enqueue-timeout-ms:3000}") long enqueueTimeoutMs) {
+        this.javaMailSender = javaMailSender;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+
+        Gauge.builder("mail.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.retry.queue.size", retryQueue, DelayQueue::size)
+                .description("재발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.failed")
+                .description("재시도 횟수를 넘겨 버려진 메일 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "mail-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcherThread.join(SHUTDOWN_TIMEOUT_MS);
+        if (!queue.isEmpty() || !retryQueue.isEmpty()) {
+            log.error("stop : 보내지 못한 메일 (대기 : {}, 재발송 대기 : {})",
+                    queue.size(), retryQueue.size());
+        }
+    }
+
+    /**
+     * 메일을 발송 큐에 넣는다. 큐가 가득 차 있으면 잠시 기다리고, 그래도 자리가 없으면 실패한다.
+     */
+    public void dispatch(MimeMessagePreparator preparator) {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        try {
+            preparator.prepare(message);
+        } catch (Exception e) {
+            throw new MailPreparationException(e);
+        }
+
+        boolean queued;
+        try {
+            queued = queue.offer(new PendingMail(message), enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            log.error("dispatch : 메일 발송 큐가 가득 참 (큐 크기 : {})", queue.size());
+            throw new MemberException(MemberErrorCode.MAIL_QUEUE_FULL);
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingMail> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("dispatchLoop : 메일 발송 중 알 수 없는 오류", e);
+            }
+        }
+    }
+
+    // 재발송 시각이 된 메일을 먼저 담고, 남은 자리는 발송 큐에서 채운다
+    private List<PendingMail> nextBatch() throws InterruptedException {
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+        retryQueue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            PendingMail first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            batch.add(first);
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+        return batch;
+    }
+
+    // JavaMailSender 는 한 번의 send 호출에 넘긴 메일을 하나의 SMTP 연결로 보낸다
+    private void send(List<PendingMail> batch) {
+        MimeMessage[] messages = new MimeMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = batch.get(i).getMessage();
+        }
+
+        long start = System.nanoTime();
+        try {
+            javaMailSender.send(messages);
+            recordSend("success", start);
+            sentCounter.increment(batch.size());
+        } catch (MailSendException e) {
+            recordSend("failure", start);
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (PendingMail pendingMail : batch) {
+                if (failedMessages.isEmpty()
+                        || failedMessages.containsKey(pendingMail.getMessage())) {
+                    retry(pendingMail, e);
+                } else {
+                    sentCounter.increment();
+                }
+            }
+        } catch (MailException e) {
+            recordSend("failure", start);
+            batch.forEach(pendingMail -> retry(pendingMail, e));
+        }
+    }
+
+    private void recordSend(String result, long start) {
+        Timer.builder("mail.send")
+                .description("메일 묶음 하나를 보내는 데 걸린 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void retry(PendingMail pendingMail, MailException e) {
+        int attempts = pendingMail.increaseAttempts();
+        if (attempts >= maxAttempts) {
+            failedCounter.increment();
+            log.error("retry : 메일 발송 실패, 재시도 횟수 초과 (시도 횟수 : {})", attempts, e);
+            return;
+        }
+        long delayMs = retryBackoffMs << (attempts - 1);
+        log.warn("retry : 메일 발송 실패, 재발송 예약 (시도 횟수 : {}, 대기 시간 : {}ms)",
+                attempts, delayMs);
+        pendingMail.delay(delayMs);
+        retryQueue.add(pendingMail);
+    }
+
+    @Getter
+    private static class PendingMail implements Delayed {
+
+        private final MimeMessage message;
+        private int attempts;
+        private long availableAt;
+
+        private PendingMail(MimeMessage message) {
+            this.message = message;
+            this.availableAt = System.nanoTime();
+        }
+
+        private int increaseAttempts() {
+            return ++attempts;
+        }
+
+        private void delay(long delayMs) {
+            availableAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(availableAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS),
+                    other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import onde.there.dto.place.PlaceDto;
+import onde.there.dto.place.PlaceDto.NearbyResponse;
 import onde.there.dto.place.PlaceDto.Response;
 import onde.there.member.security.jwt.TokenMemberId;
 import onde.there.place.service.PlaceService;
@@ -68,6 +69,24 @@ public class PlaceController {
 		return ResponseEntity.ok(placeService.list(journeyId, memberId));
 	}
 
+	@Operation(summary = "주변 장소 조회", description = "기준 위치에서 반경 안에 있는 공개 여정의 장소를 가까운 순으로 조회")
+	@ApiResponse(responseCode = "200", description = "거리순 장소 list 반환", content = @Content(schema = @Schema(implementation = PlaceDto.NearbyResponse.class)))
+	@GetMapping("/nearby")
+	public ResponseEntity<List<NearbyResponse>> nearby(
+		@Parameter(description = "기준 위도", required = true)
+		@RequestParam double latitude,
+		@Parameter(description = "기준 경도", required = true)
+		@RequestParam double longitude,
+		@Parameter(description = "반경 (km, 최대 20)")
+		@RequestParam(defaultValue = "3") double radius,
+		@Parameter(description = "장소 카테고리 (예: 음식점)")
+		@RequestParam(required = false) String placeCategory,
+		@Parameter(description = "조회할 장소 수 (최대 100)")
+		@RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(
+			placeService.nearby(latitude, longitude, radius, placeCategory, size));
+	}
+
 	@Operation(summary = "장소 삭제", description = "placeId에 해당하는 장소 삭제")
 	@DeleteMapping()
 	public ResponseEntity<?> deletePlace(
@@ -2,12 +2,16 @@ package onde.there.place.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import onde.there.member.security.jwt.TokenMemberId;
 import onde.there.place.service.PlaceHeartService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -39,4 +43,34 @@ public class PlaceHeartController {
 		return ResponseEntity.status(HttpStatus.OK)
 			.body(placeHeartService.unHeart(placeId, memberId));
 	}
+
+	@Operation(summary = "좋아요", description = "이미 좋아요 상태여도 성공, 새로 눌렸으면 true")
+	@PutMapping("/heart")
+	public ResponseEntity<?> putHeart(
+		@Parameter(description = "장소 아이디", required = true)
+		@RequestParam Long placeId,
+		@Parameter(hidden = true)
+		@TokenMemberId String memberId) {
+		return ResponseEntity.ok(placeHeartService.putHeart(placeId, memberId));
+	}
+
+	@Operation(summary = "좋아요 취소", description = "이미 취소된 상태여도 성공, 새로 취소됐으면 true")
+	@DeleteMapping("/heart")
+	public ResponseEntity<?> deleteHeart(
+		@Parameter(description = "장소 아이디", required = true)
+		@RequestParam Long placeId,
+		@Parameter(hidden = true)
+		@TokenMemberId String memberId) {
+		return ResponseEntity.ok(placeHeartService.deleteHeart(placeId, memberId));
+	}
+
+	@Operation(summary = "좋아요 여부 조회", description = "여러 장소의 좋아요 여부를 한 번에 조회")
+	@GetMapping("/hearted")
+	public ResponseEntity<?> hearted(
+		@Parameter(description = "장소 아이디 목록", required = true)
+		@RequestParam List<Long> placeIds,
+		@Parameter(hidden = true)
+		@TokenMemberId String memberId) {
+		return ResponseEntity.ok(placeHeartService.hearted(placeIds, memberId));
+	}
 }
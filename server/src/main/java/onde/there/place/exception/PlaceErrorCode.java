@@ -22,6 +22,7 @@ public enum PlaceErrorCode {
 	THERE_IS_NO_MATCHING_THEME("일치하는 테마가 없습니다."),
 	ALREADY_HEARTED("이미 좋아요가 눌린 상태입니다."),
 	ALREADY_UN_HEARTED("이미 좋아요가 취소된 상태입니다."),
+	TOO_MANY_PLACE_IDS("한 번에 조회할 수 있는 장소 수를 넘었습니다."),
 	;
 	private final String description;
 }
@@ -1,11 +1,10 @@
 package onde.there.place.repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-import onde.there.domain.Member;
-import onde.there.domain.Place;
 import onde.there.domain.PlaceHeart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,5 +19,25 @@ public interface PlaceHeartRepository extends JpaRepository<PlaceHeart, Long> {
 	@Query(name = "SELECT p FROM place_heart p WHERE p.place_id = : find_id ")
 	Long countByPlaceId(@Param(value = "find_id") Long placeId);
 
-	Optional<PlaceHeart> findByPlaceAndMember(Place place, Member member);
+	/**
+	 * 장소와 회원이 있고 아직 좋아요가 없을 때만 넣는다. 동시에 같은 좋아요가 들어오면
+	 * (place_id, member_id) 유니크 제약에 걸린 쪽이 무시되어 0 을 돌려준다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "insert ignore into place_heart (place_id, member_id) "
+		+ "select p.place_id, m.member_id from place p, member m "
+		+ "where p.place_id = :placeId and m.member_id = :memberId", nativeQuery = true)
+	int insertIfAbsent(@Param("placeId") Long placeId, @Param("memberId") String memberId);
+
+	@Modifying
+	@Query("delete from PlaceHeart ph where ph.place.id = :placeId and ph.member.id = :memberId")
+	int deleteInBulkByPlaceIdAndMemberId(@Param("placeId") Long placeId,
+		@Param("memberId") String memberId);
+
+	@Query("select ph.place.id from PlaceHeart ph where ph.member.id = :memberId")
+	List<Long> findPlaceIdsByMemberId(@Param("memberId") String memberId);
+
+	@Modifying
+	@Query("delete from PlaceHeart ph where ph.place.id in :placeIds")
+	int deleteAllInBulkByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
 }
@@ -1,11 +1,27 @@
 package onde.there.place.repository;
 
+import java.util.Collection;
 import java.util.List;
 import onde.there.domain.PlaceImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PlaceImageRepository extends JpaRepository<PlaceImage,Long> {
+public interface PlaceImageRepository extends JpaRepository<PlaceImage,Long>,
+	PlaceImageRepositoryCustom {
 	List<PlaceImage> findAllByPlaceId(Long placeId);
+
+	@Query("select pi.url from PlaceImage pi where pi.place.id in :placeIds")
+	List<String> findUrlsByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
+
+	@Modifying
+	@Query("update PlaceImage pi set pi.variantReady = true where pi.url in :urls")
+	int markVariantReadyByUrlIn(@Param("urls") Collection<String> urls);
+
+	@Modifying
+	@Query("delete from PlaceImage pi where pi.place.id in :placeIds")
+	int deleteAllInBulkByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
 }
@@ -0,0 +1,8 @@
+package onde.there.place.repository;
+
+import java.util.List;
+
+public interface PlaceImageRepositoryCustom {
+
+	void insertAllInBatch(Long placeId, List<String> imageUrls);
+}
@@ -0,0 +1,32 @@
+package onde.there.place.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * place_image_id 가 IDENTITY 라 Hibernate 는 insert 를 배치로 묶지 못하므로
+ * JdbcTemplate 배치 하나로 장소의 이미지를 모두 넣는다.
+ */
+@RequiredArgsConstructor
+public class PlaceImageRepositoryImpl implements PlaceImageRepositoryCustom {
+
+	private static final String INSERT_SQL =
+		"insert into place_image (place_id, url, variant_ready) values (?, ?, false)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insertAllInBatch(Long placeId, List<String> imageUrls) {
+
+		if (imageUrls.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, imageUrls, imageUrls.size(),
+			(ps, imageUrl) -> {
+				ps.setLong(1, placeId);
+				ps.setString(2, imageUrl);
+			});
+	}
+}
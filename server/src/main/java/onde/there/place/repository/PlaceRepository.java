@@ -1,9 +1,12 @@
 package onde.there.place.repository;
 
+import java.util.Collection;
 import java.util.List;
-import onde.there.domain.Journey;
 import onde.there.domain.Place;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,5 +15,31 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
 	boolean existsById(Long placeId);
 	List<Place> findAllByJourneyIdOrderByPlaceTimeAsc(Long journeyId);
 
-	Integer deleteAllByJourneyId(Long journeyId);
+	List<Place> findTop500ByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
+
+	@Query("select p.id from Place p where p.journey.id = :journeyId")
+	List<Long> findIdsByJourneyId(@Param("journeyId") Long journeyId);
+
+	@Modifying
+	@Query("delete from Place p where p.id in :placeIds")
+	int deleteAllInBulkByIdIn(@Param("placeIds") Collection<Long> placeIds);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update Place p set p.placeHeartCount = p.placeHeartCount + :delta "
+		+ "where p.id in :placeIds")
+	int addPlaceHeartCount(@Param("delta") long delta,
+		@Param("placeIds") Collection<Long> placeIds);
+
+	@Modifying(clearAutomatically = true)
+	@Query(value = "update place p set p.place_heart_count = "
+		+ "(select count(*) from place_heart h where h.place_id = p.place_id) "
+		+ "where p.place_id in (:placeIds)", nativeQuery = true)
+	int recountPlaceHeartCount(@Param("placeIds") Collection<Long> placeIds);
+
+	@Modifying
+	@Query(value = "update place p set p.comment_count = case "
+		+ "when p.comment_count is null then (select count(*) from comment c where c.place_id = :placeId) "
+		+ "else p.comment_count + :delta end "
+		+ "where p.place_id = :placeId", nativeQuery = true)
+	int addCommentCount(@Param("placeId") Long placeId, @Param("delta") long delta);
 }
@@ -1,11 +1,23 @@
 package onde.there.place.repository;
 
-import com.querydsl.core.Tuple;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import onde.there.domain.Place;
+import onde.there.domain.type.PlaceCategoryType;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlaceRepositoryCustom {
 
-	List<Tuple> findAllByJourneyOrderByPlaceTimeAsc(Long journeyId, String memberId);
+	List<Place> findAllWithImagesByJourneyId(Long journeyId);
+
+	Map<Long, List<String>> findPlaceNamesByJourneyIds(Collection<Long> journeyIds);
+
+	/**
+	 * geohash 칸과 위경도 범위 안의 공개 여정 장소를 기준 위치에서 가까운 순(근사 거리)으로 최대 limit 개 조회한다.
+	 */
+	List<Place> findNearbyCandidates(double latitude, double longitude,
+		List<String> geohashPrefixes, double minLatitude, double maxLatitude,
+		double minLongitude, double maxLongitude, PlaceCategoryType placeCategory, int limit);
 }
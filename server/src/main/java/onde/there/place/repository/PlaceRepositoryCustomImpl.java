@@ -1,13 +1,22 @@
 package onde.there.place.repository;
 
-import static com.querydsl.jpa.JPAExpressions.select;
+import static onde.there.domain.QJourney.journey;
+import static onde.there.domain.QPlace.place;
+import static onde.there.domain.QPlaceImage.placeImage;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import onde.there.domain.QPlace;
-import onde.there.domain.QPlaceHeart;
+import onde.there.domain.Place;
+import onde.there.domain.type.PlaceCategoryType;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,24 +25,85 @@ public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
 
 	private final JPAQueryFactory jpaQueryFactory;
 
-
 	@Override
-	public List<Tuple> findAllByJourneyOrderByPlaceTimeAsc(Long journeyId, String memberId) {
+	public List<Place> findAllWithImagesByJourneyId(Long journeyId) {
 
-		//given
-		QPlace p = new QPlace("p");
-		QPlaceHeart ph = new QPlaceHeart("ph");
+		return jpaQueryFactory
+			.selectFrom(place)
+			.distinct()
+			.leftJoin(place.placeImages, placeImage)
+			.fetchJoin()
+			.where(place.journey.id.eq(journeyId))
+			.orderBy(place.placeTime.asc(), placeImage.id.asc())
+			.fetch();
+	}
+
+	@Override
+	public Map<Long, List<String>> findPlaceNamesByJourneyIds(Collection<Long> journeyIds) {
 
-		//when
 		List<Tuple> tuples = jpaQueryFactory
-			.select(p, select()
-				.from(ph)
-				.where(ph.member.id.eq(memberId).and(ph.place.eq(p))).exists()
-				.as("hearted_check")).from(p)
-			.where(p.journey.id.eq(journeyId))
-			.orderBy(p.placeTime.asc())
+			.select(place.journey.id, place.placeName)
+			.from(place)
+			.where(place.journey.id.in(journeyIds))
+			.fetch();
+
+		Map<Long, List<String>> placeNames = new HashMap<>();
+		for (Tuple tuple : tuples) {
+			placeNames.computeIfAbsent(tuple.get(place.journey.id), key -> new ArrayList<>())
+				.add(tuple.get(place.placeName));
+		}
+		return placeNames;
+	}
+
+	@Override
+	public List<Place> findNearbyCandidates(double latitude, double longitude,
+		List<String> geohashPrefixes, double minLatitude, double maxLatitude,
+		double minLongitude, double maxLongitude, PlaceCategoryType placeCategory, int limit) {
+
+		BooleanBuilder inCells = new BooleanBuilder();
+		for (String geohashPrefix : geohashPrefixes) {
+			inCells.or(place.geohash.startsWith(geohashPrefix));
+		}
+
+		return jpaQueryFactory
+			.selectFrom(place)
+			.innerJoin(place.journey, journey)
+			.where(
+				inCells,
+				place.latitude.between(minLatitude, maxLatitude),
+				betweenLongitude(minLongitude, maxLongitude),
+				eqPlaceCategory(placeCategory),
+				journey.disclosure.eq("public")
+			)
+			// 장소가 많은 지역에서도 limit 안에 가장 가까운 장소가 들어오도록 정렬한 뒤 자른다
+			.orderBy(approximateDistance(latitude, longitude).asc(), place.id.asc())
+			.limit(limit)
 			.fetch();
+	}
+
+	/**
+	 * 경도 차이에 cos(위도) 를 곱한 평면 거리의 제곱. 반경이 작아 순서를 정하는 데는 충분하다.
+	 */
+	private NumberExpression<Double> approximateDistance(double latitude, double longitude) {
+
+		NumberExpression<Double> latitudeDiff = place.latitude.subtract(latitude);
+		NumberExpression<Double> longitudeDiff = place.longitude.subtract(longitude)
+			.multiply(Math.cos(Math.toRadians(latitude)));
+		return latitudeDiff.multiply(latitudeDiff)
+			.add(longitudeDiff.multiply(longitudeDiff));
+	}
+
+	private BooleanExpression betweenLongitude(double minLongitude, double maxLongitude) {
+
+		// 날짜 변경선을 넘는 범위는 geohash 조건으로만 거른다
+		if (minLongitude < -180 || maxLongitude > 180) {
+			return null;
+		}
+		return place.longitude.between(minLongitude, maxLongitude);
+	}
+
+	private BooleanExpression eqPlaceCategory(PlaceCategoryType placeCategory) {
 
-		return tuples;
+		return placeCategory == null ? null : place.placeCategory.eq(placeCategory);
 	}
 }
@@ -0,0 +1,212 @@
+package onde.there.place.service;
+
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import onde.there.place.repository.PlaceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장소 좋아요 갯수를 Redis 에 누적한 뒤 주기적으로 Place.placeHeartCount 에 반영한다.
+ * <p>
+ * 좋아요/취소 시에는 DELTA_KEY 해시에 장소별 증감값만 HINCRBY 로 쌓는다.
+ * flush 는 DELTA_KEY 를 FLUSHING_KEY 로 RENAME 해서 떼어낸 뒤 같은 증감값끼리 묶어 UPDATE 하고,
+ * DB 커밋이 끝난 후에 FLUSHING_KEY 를 지운다. flush 도중 서버가 죽어 FLUSHING_KEY 가 남아 있으면
+ * 다음 flush 에서 해당 장소들의 갯수를 place_heart 테이블 기준으로 다시 계산한다.
+ * 증감값을 Redis 에 쌓지 못한 장소도 이 서버의 다음 flush 에서 다시 계산한다.
+ * <p>
+ * 여러 서버의 flush 와 재계산이 겹치지 않도록 전체 과정을 LOCK_KEY 잠금(SET NX PX, 서버별 토큰) 안에서 실행한다.
+ * 잠금 시간(flush-lock-ttl-ms)은 한 번의 flush 보다 충분히 길어야 한다.
+ */
+@Service
+@Slf4j
+public class PlaceHeartCountService {
+
+	static final String DELTA_KEY = "PH:delta";
+	static final String FLUSHING_KEY = "PH:flushing";
+	static final String LOCK_KEY = "PH:flush-lock";
+
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then "
+			+ "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+	private static final int IN_CLAUSE_SIZE = 1000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final PlaceRepository placeRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration lockTtl;
+
+	// 증감값 누적에 실패해 다시 계산해야 하는 장소 아이디
+	private final Set<Long> recountPlaceIds = ConcurrentHashMap.newKeySet();
+
+	public PlaceHeartCountService(StringRedisTemplate redisTemplate,
+		PlaceRepository placeRepository, TransactionTemplate transactionTemplate,
+		@Value("${place.heart.flush-lock-ttl-ms:60000}") long lockTtlMillis) {
+		this.redisTemplate = redisTemplate;
+		this.placeRepository = placeRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.lockTtl = Duration.ofMillis(lockTtlMillis);
+	}
+
+	public void increase(Long placeId) {
+		addDelta(placeId, 1);
+	}
+
+	public void decrease(Long placeId) {
+		addDelta(placeId, -1);
+	}
+
+	private void addDelta(Long placeId, long delta) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						incrementDelta(placeId, delta);
+					}
+				});
+		} else {
+			incrementDelta(placeId, delta);
+		}
+	}
+
+	private void incrementDelta(Long placeId, long delta) {
+		try {
+			redisTemplate.opsForHash().increment(DELTA_KEY, String.valueOf(placeId), delta);
+		} catch (DataAccessException e) {
+			log.error("incrementDelta : 장소 좋아요 갯수 누적 실패, 다음 flush 에서 재계산 (장소 아이디 : {})",
+				placeId, e);
+			recountPlaceIds.add(placeId);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${place.heart.flush-interval:10000}")
+	public void flush() {
+		String token = UUID.randomUUID().toString();
+		try {
+			if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+				.setIfAbsent(LOCK_KEY, token, lockTtl))) {
+				return;
+			}
+		} catch (DataAccessException e) {
+			log.error("flush : 장소 좋아요 flush 잠금 실패", e);
+			return;
+		}
+
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+				replay();
+			} else if (Boolean.TRUE.equals(redisTemplate.hasKey(DELTA_KEY))
+				&& Boolean.TRUE.equals(redisTemplate.renameIfAbsent(DELTA_KEY, FLUSHING_KEY))) {
+				apply();
+			}
+			recountFailed();
+		} finally {
+			unlock(token);
+		}
+	}
+
+	private void apply() {
+		Map<Long, List<Long>> placeIdsByDelta = new HashMap<>();
+		for (Entry<Object, Object> entry : redisTemplate.opsForHash().entries(FLUSHING_KEY)
+			.entrySet()) {
+			long delta = Long.parseLong((String) entry.getValue());
+			if (delta == 0) {
+				continue;
+			}
+			placeIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>())
+				.add(Long.valueOf((String) entry.getKey()));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			for (Entry<Long, List<Long>> entry : placeIdsByDelta.entrySet()) {
+				for (List<Long> placeIds : Lists.partition(entry.getValue(), IN_CLAUSE_SIZE)) {
+					placeRepository.addPlaceHeartCount(entry.getKey(), placeIds);
+				}
+			}
+		});
+
+		redisTemplate.delete(FLUSHING_KEY);
+		log.info("flush : 장소 좋아요 갯수 반영 완료 (증감값 종류 : {})", placeIdsByDelta.size());
+	}
+
+	private void replay() {
+		log.warn("replay : 완료되지 않은 장소 좋아요 flush 복구 시작");
+
+		List<Long> placeIds = new ArrayList<>();
+		for (Object placeId : redisTemplate.opsForHash().keys(FLUSHING_KEY)) {
+			placeIds.add(Long.valueOf((String) placeId));
+		}
+
+		recount(placeIds);
+
+		redisTemplate.delete(FLUSHING_KEY);
+		log.warn("replay : 장소 좋아요 갯수 재계산 완료 (장소 수 : {})", placeIds.size());
+	}
+
+	private void recountFailed() {
+		if (recountPlaceIds.isEmpty()) {
+			return;
+		}
+
+		List<Long> placeIds = new ArrayList<>(recountPlaceIds);
+		recountPlaceIds.removeAll(placeIds);
+		try {
+			recount(placeIds);
+		} catch (RuntimeException e) {
+			recountPlaceIds.addAll(placeIds);
+			throw e;
+		}
+		log.warn("recountFailed : 누적 실패한 장소 좋아요 갯수 재계산 완료 (장소 수 : {})", placeIds.size());
+	}
+
+	/**
+	 * 재계산한 갯수에는 이미 커밋된 좋아요가 모두 들어 있으므로 해당 장소의 DELTA_KEY 증감값을 지운다.
+	 * <p>
+	 * 한 트랜잭션 안에서 재계산 UPDATE 로 장소 행을 잠근 뒤에 증감값을 지우고 커밋한다.
+	 * 좋아요 insert 는 장소 행을 읽으므로 커밋까지 기다리고, 그 증감값은 지운 뒤에 쌓여 다음 flush 에서 더해진다.
+	 * 다만 재계산 전에 커밋된 좋아요의 afterCommit HINCRBY 가 지운 뒤에야 도착하면
+	 * (커밋과 afterCommit 사이의 짧은 틈) 그 좋아요는 한 번 더 더해질 수 있다.
+	 */
+	private void recount(List<Long> placeIds) {
+		if (placeIds.isEmpty()) {
+			return;
+		}
+
+		Object[] fields = placeIds.stream().map(String::valueOf).toArray();
+		transactionTemplate.executeWithoutResult(status -> {
+			for (List<Long> partition : Lists.partition(placeIds, IN_CLAUSE_SIZE)) {
+				placeRepository.recountPlaceHeartCount(partition);
+			}
+			redisTemplate.opsForHash().delete(DELTA_KEY, fields);
+		});
+	}
+
+	// 잠금 시간이 지나 다른 서버가 잡은 잠금은 지우지 않는다
+	private void unlock(String token) {
+		try {
+			redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(LOCK_KEY), token);
+		} catch (DataAccessException e) {
+			log.error("unlock : 장소 좋아요 flush 잠금 해제 실패", e);
+		}
+	}
+}
@@ -1,20 +1,23 @@
 package onde.there.place.service;
 
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import onde.there.domain.Member;
-import onde.there.domain.Place;
-import onde.there.domain.PlaceHeart;
-import onde.there.domain.PlaceHeartScheduling;
 import onde.there.member.repository.MemberRepository;
 import onde.there.place.exception.PlaceErrorCode;
 import onde.there.place.exception.PlaceException;
 import onde.there.place.repository.PlaceHeartRepository;
-import onde.there.place.repository.PlaceHeartSchedulingRepository;
 import onde.there.place.repository.PlaceRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 좋아요/취소는 (place_id, member_id) 유니크 제약에 기대는 조건부 insert/delete 한 문장으로 처리하고,
+ * 실제로 바뀐 행이 있을 때만 좋아요 갯수와 회원별 좋아요 셋을 갱신한다.
+ * 바뀐 행이 없을 때만 장소, 회원이 있는지 확인해 실패 이유를 구분한다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -23,77 +26,80 @@ public class PlaceHeartService {
 	private final PlaceHeartRepository placeHeartRepository;
 	private final PlaceRepository placeRepository;
 	private final MemberRepository memberRepository;
-	private final PlaceHeartSchedulingRepository placeHeartSchedulingRepository;
+	private final PlaceHeartCountService placeHeartCountService;
+	private final PlaceHeartSetService placeHeartSetService;
+
+	@Value("${place.heart.max-lookup-size:100}")
+	private int maxLookupSize;
 
 	@Transactional
 	public boolean heart(Long placeId, String memberId) {
-		log.info("heart : 장소 좋아요 메소드 시작 (장소 아이디 : " + placeId + ") (맴버 아이디 : " + memberId + ")");
-		Place place = placeRepository.findById(placeId)
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
-
-		Member member = memberRepository.findById(memberId)
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_MEMBER));
-
-		if (placeHeartRepository.existsByPlaceIdAndMemberId(placeId, memberId)) {
+		log.info("heart : 장소 좋아요 메소드 시작 (장소 아이디 : {}) (맴버 아이디 : {})", placeId, memberId);
+		if (!putHeart(placeId, memberId)) {
 			throw new PlaceException(PlaceErrorCode.ALREADY_HEARTED);
 		}
 
-		placeHeartRepository.save(PlaceHeart.builder()
-			.place(place)
-			.member(member)
-			.build());
-
-		placeHeartUpdateRole(placeId, place, true);
-
-		log.info("heart : 장소 좋아요 메소드 완료 (장소 아이디 : " + placeId + ") (맴버 아이디 : " + memberId + ")");
+		log.info("heart : 장소 좋아요 메소드 완료 (장소 아이디 : {}) (맴버 아이디 : {})", placeId, memberId);
 		return true;
 	}
 
 	@Transactional
 	public boolean unHeart(Long placeId, String memberId) {
-		log.info("unHeart : 장소 좋아요 취소 메소드 시작 (장소 아이디 : " + placeId + ") (맴버 아이디 : " + memberId + ")");
-		Place place = placeRepository.findById(placeId)
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
+		log.info("unHeart : 장소 좋아요 취소 메소드 시작 (장소 아이디 : {}) (맴버 아이디 : {})", placeId, memberId);
+		if (!deleteHeart(placeId, memberId)) {
+			throw new PlaceException(PlaceErrorCode.ALREADY_UN_HEARTED);
+		}
 
-		Member member = memberRepository.findById(memberId)
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_MEMBER));
+		log.info("unHeart : 장소 좋아요 취소 메소드 완료 (장소 아이디 : {}) (맴버 아이디 : {})", placeId, memberId);
+		return true;
+	}
 
-		PlaceHeart placeHeart = placeHeartRepository.findByPlaceAndMember(place, member)
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.ALREADY_UN_HEARTED));
+	/**
+	 * 이미 좋아요 상태여도 실패하지 않는다. 새로 좋아요가 눌렸으면 true 를 돌려준다.
+	 */
+	@Transactional
+	public boolean putHeart(Long placeId, String memberId) {
+		if (placeHeartRepository.insertIfAbsent(placeId, memberId) == 0) {
+			checkPlaceAndMember(placeId, memberId);
+			return false;
+		}
 
-		placeHeartRepository.delete(placeHeart);
+		placeHeartCountService.increase(placeId);
+		placeHeartSetService.add(memberId, placeId);
+		return true;
+	}
 
-		placeHeartUpdateRole(placeId, place, false);
+	/**
+	 * 이미 취소된 상태여도 실패하지 않는다. 새로 취소됐으면 true 를 돌려준다.
+	 */
+	@Transactional
+	public boolean deleteHeart(Long placeId, String memberId) {
+		if (placeHeartRepository.deleteInBulkByPlaceIdAndMemberId(placeId, memberId) == 0) {
+			checkPlaceAndMember(placeId, memberId);
+			return false;
+		}
 
-		log.info("unHeart : 장소 좋아요 취소 메소드 완료 (장소 아이디 : " + placeId + ") (맴버 아이디 : " + memberId + ")");
+		placeHeartCountService.decrease(placeId);
+		placeHeartSetService.remove(memberId, placeId);
 		return true;
 	}
 
-	private void addSchedule(Long placeId) {
-		log.info("addSchedule : 장소 좋아요 스케쥴링 저장 시작(장소 아이디 : " + placeId + ")");
-		if (!placeHeartSchedulingRepository.existsByPlaceId(placeId)) {
-			placeHeartSchedulingRepository.save(PlaceHeartScheduling
-				.builder().place(placeRepository.findById(placeId)
-					.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE))).build());
-			log.info("addSchedule : 장소 좋아요 스케쥴링 저장 완료(장소 아이디 : " + placeId + ")");
-		} else {
-			log.info("addSchedule : 장소 좋아요 스케쥴링 저장 되어 있음 저장 할 필요 x (장소 아이디 : " + placeId + ")");
+	/**
+	 * 최대 max-lookup-size 개 장소의 좋아요 여부를 Redis 한 번의 조회로 확인한다.
+	 */
+	public Map<Long, Boolean> hearted(List<Long> placeIds, String memberId) {
+		if (placeIds.size() > maxLookupSize) {
+			throw new PlaceException(PlaceErrorCode.TOO_MANY_PLACE_IDS);
 		}
+		return placeHeartSetService.hearted(memberId, placeIds);
 	}
 
-
-	private void placeHeartUpdateRole(Long placeId, Place place, boolean plusOrMinus) {
-		log.info("placeHeartUpdateRole : 장소 좋아요 갯수 업데이트 메소드 시작! (장소 아이디 : " + placeId + ")");
-		if (place.getPlaceHeartCount() >= 1000) {
-			addSchedule(placeId);
-			log.info(
-				"좋아요 갯수 1000개 이상 -> placeHeartUpdateRole : 장소 좋아요 갯수 업데이트 메소드 취소 -> 스케줄링으로 저장 완료! (장소 아이디 : "
-					+ placeId + ")");
-		} else {
-			place.setPlaceHeartCount(place.getPlaceHeartCount() + (plusOrMinus ? 1 : -1));
-			placeRepository.save(place);
-			log.info("좋아요 갯수 1000개 미만 -> placeHeartUpdateRole : 장소 좋아요 갯수 업데이트 메소드 완료! (장소 아이디 : "
-				+ placeId + ")");
+	private void checkPlaceAndMember(Long placeId, String memberId) {
+		if (!placeRepository.existsById(placeId)) {
+			throw new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE);
+		}
+		if (!memberRepository.existsById(memberId)) {
+			throw new PlaceException(PlaceErrorCode.NOT_FOUND_MEMBER);
 		}
 	}
-}
\ No newline at end of file
+}
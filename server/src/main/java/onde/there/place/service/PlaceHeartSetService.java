@@ -0,0 +1,229 @@
+package onde.there.place.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import onde.there.place.repository.PlaceHeartRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원이 좋아요한 장소 아이디를 Redis 셋(PH:member:{memberId})에 복제해 두고,
+ * 여러 장소의 좋아요 여부를 SMISMEMBER 한 번으로 확인한다.
+ * <p>
+ * 셋에는 채워졌다는 표시로 LOADED 를 함께 넣는다. 조회 시 LOADED 가 없으면 (처음 조회, 만료, 유실)
+ * place_heart 에서 다시 읽어 채운다. 좋아요/취소는 DB 커밋이 끝난 후 SADD/SREM 으로 반영한다.
+ * Redis 를 쓸 수 없으면 place_heart 를 직접 조회한다.
+ * <p>
+ * 좋아요/취소를 반영할 때마다 버전(PH:member:{memberId}:version)을 올린다. 다시 채울 때는 임시 키에 셋을 만든 뒤
+ * DB 를 읽기 전의 버전이 그대로일 때만 RENAME 으로 바꿔 넣는다. 그 사이 반영된 좋아요/취소가
+ * 오래된 DB 결과로 덮어써지지 않도록 하기 위해서다. 버전이 바뀌었으면 이번 결과는 저장하지 않는다.
+ * 셋은 TTL 동안 남으므로 호출한 쪽이 readOnly 트랜잭션이어도 primary 에서 읽는다.
+ */
+@Service
+@Slf4j
+public class PlaceHeartSetService {
+
+	static final String KEY_PREFIX = "PH:member:";
+	// 장소 아이디는 1 부터 시작하므로 0 을 표시 값으로 쓴다
+	static final String LOADED = "0";
+
+	// 셋에 좋아요/취소를 반영하고 버전을 올린다
+	private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call(ARGV[1], KEYS[1], ARGV[2]) "
+			+ "local version = redis.call('incr', KEYS[2]) "
+			+ "redis.call('expire', KEYS[2], ARGV[3]) "
+			+ "return version", Long.class);
+
+	// 버전이 그대로일 때만 임시 키를 셋 키로 바꾼다
+	private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+		"if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then "
+			+ "redis.call('del', KEYS[3]) return 0 end "
+			+ "redis.call('rename', KEYS[3], KEYS[1]) "
+			+ "redis.call('expire', KEYS[1], ARGV[2]) "
+			+ "return 1", Long.class);
+
+	private static final Duration LOADING_TTL = Duration.ofMinutes(1);
+
+	private final StringRedisTemplate redisTemplate;
+	private final PlaceHeartRepository placeHeartRepository;
+	private final TransactionTemplate primaryTransactionTemplate;
+	private final Duration ttl;
+
+	public PlaceHeartSetService(StringRedisTemplate redisTemplate,
+		PlaceHeartRepository placeHeartRepository, PlatformTransactionManager transactionManager,
+		@Value("${place.heart.member-set-ttl-hours:24}") long ttlHours) {
+		this.redisTemplate = redisTemplate;
+		this.placeHeartRepository = placeHeartRepository;
+		this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.primaryTransactionTemplate.setPropagationBehavior(
+			TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.ttl = Duration.ofHours(ttlHours);
+	}
+
+	public void add(String memberId, Long placeId) {
+		afterCommit(memberId, () -> write(memberId, "sadd", placeId));
+	}
+
+	public void remove(String memberId, Long placeId) {
+		afterCommit(memberId, () -> write(memberId, "srem", placeId));
+	}
+
+	/**
+	 * placeIds 순서 그대로 좋아요 여부를 돌려준다.
+	 */
+	public Map<Long, Boolean> hearted(String memberId, List<Long> placeIds) {
+		if (placeIds.isEmpty()) {
+			return new LinkedHashMap<>();
+		}
+
+		Object[] members = new Object[placeIds.size() + 1];
+		members[0] = LOADED;
+		for (int i = 0; i < placeIds.size(); i++) {
+			members[i + 1] = String.valueOf(placeIds.get(i));
+		}
+
+		Map<Object, Boolean> isMember;
+		try {
+			isMember = redisTemplate.opsForSet().isMember(key(memberId), members);
+		} catch (DataAccessException e) {
+			log.error("hearted : Redis 조회 실패, DB 에서 조회 (맴버 아이디 : {})", memberId, e);
+			return toHearted(placeIds, findPlaceIds(memberId));
+		}
+
+		if (isMember == null || !Boolean.TRUE.equals(isMember.get(LOADED))) {
+			return toHearted(placeIds, load(memberId));
+		}
+
+		Map<Long, Boolean> hearted = new LinkedHashMap<>();
+		for (Long placeId : placeIds) {
+			hearted.put(placeId, Boolean.TRUE.equals(isMember.get(String.valueOf(placeId))));
+		}
+		return hearted;
+	}
+
+	private Set<Long> load(String memberId) {
+		String version;
+		try {
+			version = redisTemplate.opsForValue().get(versionKey(memberId));
+		} catch (DataAccessException e) {
+			log.error("load : 좋아요 장소 셋 버전 조회 실패, DB 에서 조회 (맴버 아이디 : {})", memberId, e);
+			return findPlaceIds(memberId);
+		}
+
+		Set<Long> placeIds = findPlaceIdsFromPrimary(memberId);
+
+		try {
+			if (!replace(memberId, version, placeIds)) {
+				log.info("load : 조회 중 좋아요/취소가 반영되어 셋을 저장하지 않음 (맴버 아이디 : {})",
+					memberId);
+				return placeIds;
+			}
+		} catch (DataAccessException e) {
+			log.error("load : 좋아요 장소 셋 저장 실패 (맴버 아이디 : {})", memberId, e);
+		}
+		log.info("load : 좋아요 장소 셋 채우기 완료 (맴버 아이디 : {}, 장소 수 : {})",
+			memberId, placeIds.size());
+		return placeIds;
+	}
+
+	/**
+	 * 임시 키에 셋을 만든 뒤 버전이 version 그대로일 때만 셋 키로 바꿔 넣는다.
+	 * version 은 DB 를 읽기 전에 조회한 값이다 (없으면 null).
+	 */
+	boolean replace(String memberId, String version, Collection<Long> placeIds) {
+		String loadingKey = key(memberId) + ":loading:" + UUID.randomUUID();
+
+		String[] members = new String[placeIds.size() + 1];
+		members[0] = LOADED;
+		int i = 1;
+		for (Long placeId : placeIds) {
+			members[i++] = String.valueOf(placeId);
+		}
+		redisTemplate.opsForSet().add(loadingKey, members);
+		// 교체 전에 서버가 멈춰도 임시 키가 남지 않게 한다
+		redisTemplate.expire(loadingKey, LOADING_TTL);
+
+		Long replaced = redisTemplate.execute(REPLACE_SCRIPT,
+			Arrays.asList(key(memberId), versionKey(memberId), loadingKey),
+			version == null ? "" : version, String.valueOf(ttl.getSeconds()));
+		return Long.valueOf(1).equals(replaced);
+	}
+
+	private void write(String memberId, String command, Long placeId) {
+		redisTemplate.execute(WRITE_SCRIPT, Arrays.asList(key(memberId), versionKey(memberId)),
+			command, String.valueOf(placeId), String.valueOf(ttl.getSeconds()));
+	}
+
+	// readOnly 트랜잭션 안이면 replica 에서 읽게 되므로 새 트랜잭션을 열어 primary 에서 읽는다
+	private Set<Long> findPlaceIdsFromPrimary(String memberId) {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return findPlaceIds(memberId);
+		}
+		return primaryTransactionTemplate.execute(status -> findPlaceIds(memberId));
+	}
+
+	private Set<Long> findPlaceIds(String memberId) {
+		return new HashSet<>(placeHeartRepository.findPlaceIdsByMemberId(memberId));
+	}
+
+	private Map<Long, Boolean> toHearted(Collection<Long> placeIds, Set<Long> heartedPlaceIds) {
+		Map<Long, Boolean> hearted = new LinkedHashMap<>();
+		for (Long placeId : placeIds) {
+			hearted.put(placeId, heartedPlaceIds.contains(placeId));
+		}
+		return hearted;
+	}
+
+	private void afterCommit(String memberId, Runnable write) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						writeQuietly(memberId, write);
+					}
+				});
+		} else {
+			writeQuietly(memberId, write);
+		}
+	}
+
+	// 반영에 실패하면 셋을 지워 다음 조회 때 DB 에서 다시 채우게 한다
+	private void writeQuietly(String memberId, Runnable write) {
+		try {
+			write.run();
+		} catch (DataAccessException e) {
+			log.error("writeQuietly : 좋아요 장소 셋 반영 실패 (맴버 아이디 : {})", memberId, e);
+			try {
+				redisTemplate.delete(key(memberId));
+			} catch (DataAccessException ignored) {
+				// 셋이 남아 있으면 TTL 이 지난 뒤 다시 채워진다
+			}
+		}
+	}
+
+	static String key(String memberId) {
+		return KEY_PREFIX + memberId;
+	}
+
+	static String versionKey(String memberId) {
+		return key(memberId) + ":version";
+	}
+}
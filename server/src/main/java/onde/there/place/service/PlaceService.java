@@ -1,21 +1,29 @@
 package onde.there.place.service;
 
-import com.querydsl.core.Tuple;
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import onde.there.comment.repository.CommentRepository;
-import onde.there.domain.Comment;
 import onde.there.domain.Journey;
 import onde.there.domain.Place;
-import onde.there.domain.PlaceHeart;
 import onde.there.domain.PlaceImage;
 import onde.there.domain.type.PlaceCategoryType;
 import onde.there.dto.place.PlaceDto;
+import onde.there.dto.place.PlaceDto.NearbyResponse;
 import onde.there.dto.place.PlaceDto.Response;
 import onde.there.dto.place.PlaceDto.UpdateRequest;
+import onde.there.image.event.ImageDeleteEvent;
+import onde.there.image.event.ImageUploadEvent;
 import onde.there.image.service.AwsS3Service;
+import onde.there.journey.event.JourneyChangedEvent;
 import onde.there.journey.repository.JourneyRepository;
 import onde.there.place.exception.PlaceErrorCode;
 import onde.there.place.exception.PlaceException;
@@ -23,9 +31,15 @@ import onde.there.place.repository.PlaceHeartRepository;
 import onde.there.place.repository.PlaceImageRepository;
 import onde.there.place.repository.PlaceRepository;
 import onde.there.place.repository.PlaceRepositoryCustomImpl;
+import onde.there.place.utils.GeoHash;
 import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -34,15 +48,25 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional(readOnly = true)
 public class PlaceService {
 
+	private static final int IN_CLAUSE_SIZE = 1000;
+	private static final double MAX_NEARBY_RADIUS_KM = 20;
+	private static final int MAX_NEARBY_SIZE = 100;
+	// 밀집 지역에서 후보가 너무 많아지지 않도록 DB 에서 가져올 최대 후보 수
+	private static final int NEARBY_CANDIDATE_LIMIT = 2000;
+	private static final int GEOHASH_BACKFILL_BATCH_SIZE = 500;
+
 	private final JourneyRepository journeyRepository;
 	private final PlaceRepository placeRepository;
 	private final PlaceImageRepository placeImageRepository;
 	private final PlaceHeartRepository placeHeartRepository;
 	private final CommentRepository commentRepository;
 	private final PlaceRepositoryCustomImpl placeRepositoryCustom;
+	private final PlaceHeartSetService placeHeartSetService;
 	private final AwsS3Service awsS3Service;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 
-	@Transactional
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public Place createPlace(List<MultipartFile> images, PlaceDto.CreateRequest request,
 		String memberId) {
 		log.info("createPlace : 장소 생성 시작!");
@@ -55,58 +79,127 @@ public class PlaceService {
 
 		Place place = request.toEntity();
 		place.setJourney(journey);
-		Place savePlace = placeRepository.save(place);
 
 		List<String> imageUrls = imageUploadToS3(images);
-		savePlaceImage(savePlace, imageUrls);
-		log.info("createPlace : 장소 저장 완료! (장소 아이디 : " + savePlace.getId() + ")");
+
+		Place savePlace = executeOrDeleteImages(imageUrls, () -> {
+			Place saved = placeRepository.save(place);
+			savePlaceImage(saved, imageUrls);
+			eventPublisher.publishEvent(new ImageUploadEvent(imageUrls));
+			return saved;
+		});
+		log.info("createPlace : 장소 저장 완료! (장소 아이디 : {})", savePlace.getId());
+		eventPublisher.publishEvent(new JourneyChangedEvent(journey.getId()));
 
 		return savePlace;
 	}
 
 	public PlaceDto.Response getPlace(Long placeId) {
-		log.info("getPlace : 장소 조회 시작! (장소 아이디 : " + placeId + ")");
+		log.info("getPlace : 장소 조회 시작! (장소 아이디 : {})", placeId);
 		Place place = placeRepository.findById(placeId)
 			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
 		Hibernate.initialize(place.getPlaceImages());
 		Response response = Response.toResponse(place);
 
-		log.info("getPlace : 장소 조회 완료! (장소 아이디 : " + placeId + ")");
+		log.info("getPlace : 장소 조회 완료! (장소 아이디 : {})", placeId);
 		return response;
 	}
 
 	public List<Response> list(Long journeyId, String memberId) {
-		log.info("list : 여정에 포함된 장소 조회 시작! (여정 아이디 : " + journeyId + ")");
+		log.info("list : 여정에 포함된 장소 조회 시작! (여정 아이디 : {})", journeyId);
 		journeyRepository.findById(journeyId)
 			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_JOURNEY));
 
-		if (memberId == null) {
-			List<Place> places = placeRepository.findAllByJourneyIdOrderByPlaceTimeAsc(journeyId);
-			return Response.toResponse(places);
-		}
+		List<Place> places = placeRepositoryCustom.findAllWithImagesByJourneyId(journeyId);
+		List<Response> responses = Response.toResponse(places);
 
-		List<Tuple> tuples = placeRepositoryCustom.findAllByJourneyOrderByPlaceTimeAsc(
-			journeyId, memberId);
+		if (memberId != null) {
+			Map<Long, Boolean> hearted = placeHeartSetService.hearted(memberId,
+				places.stream().map(Place::getId).collect(Collectors.toList()));
+			for (Response response : responses) {
+				response.setHeartedCheck(hearted.get(response.getPlaceId()));
+			}
+		}
 
-		List<Response> responses = new ArrayList<>();
-		for (Tuple tuple : tuples) {
-			Place place = tuple.get(0, Place.class);
-			boolean heartedCheck = Boolean.TRUE.equals(tuple.get(1, Boolean.class));
+		log.info("list : 여정에 포함된 장소 조회 완료! (여정 아이디 : {})", journeyId);
+		return responses;
+	}
 
-			if (place != null) {
-				Response response = Response.toResponse(place);
-				response.setHeartedCheck(heartedCheck);
-				responses.add(response);
+	/**
+	 * 기준 위치에서 radiusKm 안에 있는 공개 여정의 장소를 가까운 순으로 조회한다.
+	 * geohash 인덱스로 반경을 덮는 칸의 장소를 가까운 순으로 가져온 뒤 실제 거리로 다시 거른다.
+	 */
+	public List<NearbyResponse> nearby(double latitude, double longitude, double radiusKm,
+		String placeCategory, int size) {
+		log.info("nearby : 주변 장소 조회 시작! (위도 : {}, 경도 : {}, 반경 : {}km)",
+			latitude, longitude, radiusKm);
+		if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+			|| radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+			throw new PlaceException(PlaceErrorCode.BAD_REQUEST);
+		}
+		PlaceCategoryType category = placeCategory == null ? null
+			: PlaceCategoryType.toPlaceCategoryType(placeCategory);
+
+		double radiusMeters = radiusKm * 1000;
+		double latitudeDelta = radiusMeters / GeoHash.METERS_PER_DEGREE;
+		double longitudeDelta = radiusMeters / (GeoHash.METERS_PER_DEGREE
+			* Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+		List<Place> candidates = placeRepositoryCustom.findNearbyCandidates(latitude, longitude,
+			GeoHash.coveringCells(latitude, longitude, radiusMeters),
+			latitude - latitudeDelta, latitude + latitudeDelta,
+			longitude - longitudeDelta, longitude + longitudeDelta,
+			category, NEARBY_CANDIDATE_LIMIT);
+
+		Map<Long, Double> distances = new HashMap<>();
+		List<Place> places = new ArrayList<>();
+		for (Place place : candidates) {
+			double distance = GeoHash.distanceMeters(latitude, longitude,
+				place.getLatitude(), place.getLongitude());
+			if (distance <= radiusMeters) {
+				distances.put(place.getId(), distance);
+				places.add(place);
 			}
 		}
+		places.sort(Comparator.comparingDouble(place -> distances.get(place.getId())));
+
+		List<NearbyResponse> responses = new ArrayList<>();
+		int limit = Math.max(1, Math.min(size, MAX_NEARBY_SIZE));
+		for (Place place : places.subList(0, Math.min(limit, places.size()))) {
+			responses.add(NearbyResponse.toResponse(place, distances.get(place.getId())));
+		}
 
-		log.info("list : 여정에 포함된 장소 조회 완료! (여정 아이디 : " + journeyId + ")");
+		log.info("nearby : 주변 장소 조회 완료! (후보 수 : {}, 결과 수 : {})",
+			candidates.size(), responses.size());
 		return responses;
 	}
 
+	/**
+	 * geohash 컬럼이 추가되기 전에 저장된 장소의 geohash 를 채운다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public void backfillGeohash() {
+		int count = 0;
+		Integer updated;
+		do {
+			updated = transactionTemplate.execute(status -> {
+				List<Place> places = placeRepository
+					.findTop500ByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
+				places.forEach(Place::updateGeohash);
+				return places.size();
+			});
+			count += updated == null ? 0 : updated;
+		} while (updated != null && updated == GEOHASH_BACKFILL_BATCH_SIZE);
+
+		if (count > 0) {
+			log.info("backfillGeohash : 장소 geohash 채우기 완료! (장소 수 : {})", count);
+		}
+	}
+
 	@Transactional
 	public boolean delete(Long placeId, String memberId) {
-		log.info("delete : 장소 삭제 시작! (장소 아이디 : " + placeId + ")");
+		log.info("delete : 장소 삭제 시작! (장소 아이디 : {})", placeId);
 		Place place = placeRepository.findById(placeId)
 			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
 
@@ -114,16 +207,15 @@ public class PlaceService {
 			throw new PlaceException(PlaceErrorCode.MISMATCH_MEMBER_ID);
 		}
 
-		deleteAllWithPlaceRelations(placeId);
-
-		placeRepository.delete(place);
-		log.info("delete : 장소 삭제 완료! (장소 아이디 : " + placeId + ")");
+		deletePlacesInBulk(Collections.singletonList(placeId));
+		eventPublisher.publishEvent(new JourneyChangedEvent(place.getJourney().getId()));
+		log.info("delete : 장소 삭제 완료! (장소 아이디 : {})", placeId);
 		return true;
 	}
 
 	@Transactional
 	public boolean deleteAll(Long journeyId, String memberId) {
-		log.info("deleteAll : 여정에 포함된 장소 삭제 시작! (여정 아이디 : " + journeyId + ")");
+		log.info("deleteAll : 여정에 포함된 장소 삭제 시작! (여정 아이디 : {})", journeyId);
 		Journey journey = journeyRepository.findById(journeyId)
 			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_JOURNEY));
 
@@ -131,77 +223,97 @@ public class PlaceService {
 			throw new PlaceException(PlaceErrorCode.MISMATCH_MEMBER_ID);
 		}
 
-		List<Place> places = placeRepository.findAllByJourneyIdOrderByPlaceTimeAsc(journeyId);
+		List<Long> placeIds = placeRepository.findIdsByJourneyId(journeyId);
 
-		if (places.size() == 0) {
+		if (placeIds.size() == 0) {
 			throw new PlaceException(PlaceErrorCode.DELETED_NOTING);
 		}
 
-		for (Place place : places) {
-			deletePlaceImagesInPlace(place.getId());
-		}
-
-		placeRepository.deleteAll(places);
-		log.info("deleteAll : 여정에 포함된 장소 삭제 완료! (여정 아이디 : " + journeyId + ")");
+		deletePlacesInBulk(placeIds);
+		eventPublisher.publishEvent(new JourneyChangedEvent(journeyId));
+		log.info("deleteAll : 여정에 포함된 장소 삭제 완료! (여정 아이디 : {})", journeyId);
 		return true;
 	}
 
-	@Transactional
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public PlaceDto.Response updatePlace(List<MultipartFile> multipartFile, UpdateRequest request,
 		String memberId) {
-		log.info("updatePlace : 장소 업데이트 시작! (장소 아이디 : " + request.getPlaceId() + ")");
-		Place savedPlace = placeRepository.findById(request.getPlaceId())
-			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
+		log.info("updatePlace : 장소 업데이트 시작! (장소 아이디 : {})", request.getPlaceId());
+		String writerId = transactionTemplate.execute(status -> placeRepository
+			.findById(request.getPlaceId())
+			.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE))
+			.getJourney().getMember().getId());
 
-		if (!savedPlace.getJourney().getMember().getId().equals(memberId)) {
+		if (!writerId.equals(memberId)) {
 			throw new PlaceException(PlaceErrorCode.MISMATCH_MEMBER_ID);
 		}
 
-		log.info("장소에 이미지 제외한 값 업데이트 시작! (장소 아이디 : " + request.getPlaceId() + ")");
-		Place updatePlace = setUpdateRequest(savedPlace, request);
-		placeRepository.save(updatePlace);
-		log.info("장소에 이미지 제외한 값 업데이트 완료! (장소 아이디 : " + request.getPlaceId() + ")");
-
-		deletePlaceImagesInPlace(request.getPlaceId());
+		PlaceCategoryType.toPlaceCategoryType(request.getPlaceCategory());
 
 		List<String> updateUrls = imageUploadToS3(multipartFile);
-		savePlaceImage(updatePlace, updateUrls);
+		List<String> deleteUrls = new ArrayList<>();
 
-		Response response = Response.toResponse(savedPlace);
-		response.setImageUrls(updateUrls);
+		Response response = executeOrDeleteImages(updateUrls, () -> {
+			Place savedPlace = placeRepository.findById(request.getPlaceId())
+				.orElseThrow(() -> new PlaceException(PlaceErrorCode.NOT_FOUND_PLACE));
 
-		log.info("updatePlace : 장소 업데이트 완료! (장소 아이디 : " + request.getPlaceId() + ")");
-		return response;
-	}
+			log.info("장소에 이미지 제외한 값 업데이트 시작! (장소 아이디 : {})", request.getPlaceId());
+			Place updatePlace = setUpdateRequest(savedPlace, request);
+			placeRepository.save(updatePlace);
+			log.info("장소에 이미지 제외한 값 업데이트 완료! (장소 아이디 : {})", request.getPlaceId());
 
-	private void deleteAllWithPlaceRelations(Long placeId) {
-		log.info("deleteAllWithPlaceRelations : 장소 연관관계 삭제 삭제 시작! (장소 아이디 : " + placeId + ")");
-		deletePlaceImagesInPlace(placeId);
-		deletePlaceCommentInPlace(placeId);
-		deletePlaceHeartInPlace(placeId);
-		log.info("deleteAllWithPlaceRelations : 장소 연관관계 삭제 삭제 완료! (장소 아이디 : " + placeId + ")");
-	}
+			List<PlaceImage> placeImages = placeImageRepository.findAllByPlaceId(request.getPlaceId());
+			for (PlaceImage placeImage : placeImages) {
+				deleteUrls.add(placeImage.getUrl());
+			}
+			placeImageRepository.deleteAll(placeImages);
 
-	private void deletePlaceHeartInPlace(Long placeId) {
-		log.info("deletePlaceHeartInPlace : 장소 좋아요 삭제 삭제 시작! (장소 아이디 : " + placeId + ")");
-		placeHeartRepository.deleteAll(placeHeartRepository.findAllByPlaceId(placeId));
-		log.info("deletePlaceHeartInPlace : 장소 좋아요 삭제 삭제 완료! (장소 아이디 : " + placeId + ")");
+			savePlaceImage(updatePlace, updateUrls);
+			eventPublisher.publishEvent(new ImageUploadEvent(updateUrls));
+
+			Response updateResponse = Response.toResponse(savedPlace);
+			updateResponse.setImageUrls(updateUrls);
+			eventPublisher.publishEvent(new JourneyChangedEvent(savedPlace.getJourney().getId()));
+			return updateResponse;
+		});
+
+		awsS3Service.deleteFiles(deleteUrls);
+
+		log.info("updatePlace : 장소 업데이트 완료! (장소 아이디 : {})", request.getPlaceId());
+		return response;
 	}
 
-	private void deletePlaceCommentInPlace(Long placeId) {
-		log.info("deletePlaceCommentInPlace : 장소 댓글 삭제 삭제 시작! (장소 아이디 : " + placeId + ")");
-		commentRepository.deleteAll(commentRepository.findAllByPlaceId(placeId));
-		log.info("deletePlaceCommentInPlace : 장소 댓글 삭제 삭제 완료! (장소 아이디 : " + placeId + ")");
+	private <T> T executeOrDeleteImages(List<String> imageUrls, Supplier<T> action) {
+		try {
+			return transactionTemplate.execute(status -> action.get());
+		} catch (RuntimeException e) {
+			log.warn("DB 저장 실패로 업로드한 이미지 삭제 (이미지 갯수 : {})", imageUrls.size());
+			awsS3Service.deleteFiles(imageUrls);
+			throw e;
+		}
 	}
 
-	private void deletePlaceImagesInPlace(Long placeId) {
-		log.info("deletePlaceImages : 장소에 포함된 이미지 삭제 시작! (장소 아이디 : " + placeId + ")");
-		List<PlaceImage> placeImages = placeImageRepository.findAllByPlaceId(placeId);
-		for (PlaceImage placeImage : placeImages) {
-			awsS3Service.deleteFile(placeImage.getUrl());
-			placeImageRepository.delete(placeImage);
+	/**
+	 * 장소와 장소의 이미지, 댓글, 좋아요를 한 번에 삭제하는 벌크 쿼리로 지운다.
+	 * S3 이미지는 트랜잭션이 커밋된 뒤 ImageDeleteEvent 로 삭제한다.
+	 */
+	@Transactional
+	public void deletePlacesInBulk(List<Long> placeIds) {
+		log.info("deletePlacesInBulk : 장소 벌크 삭제 시작! (장소 수 : {})", placeIds.size());
+		List<String> imageUrls = new ArrayList<>();
+		for (List<Long> partition : Lists.partition(placeIds, IN_CLAUSE_SIZE)) {
+			imageUrls.addAll(placeImageRepository.findUrlsByPlaceIdIn(partition));
+			placeImageRepository.deleteAllInBulkByPlaceIdIn(partition);
+			commentRepository.deleteAllInBulkByPlaceIdIn(partition);
+			placeHeartRepository.deleteAllInBulkByPlaceIdIn(partition);
+			placeRepository.deleteAllInBulkByIdIn(partition);
+		}
+
+		if (!imageUrls.isEmpty()) {
+			eventPublisher.publishEvent(new ImageDeleteEvent(imageUrls));
 		}
-		log.info("deletePlaceImages : 장소에 포함된 이미지 삭제 완료! (장소 아이디 : " + placeId + ")");
+		log.info("deletePlacesInBulk : 장소 벌크 삭제 완료! (장소 수 : {}, 이미지 수 : {})",
+			placeIds.size(), imageUrls.size());
 	}
 
 	private List<String> imageUploadToS3(List<MultipartFile> images) {
@@ -209,13 +321,14 @@ public class PlaceService {
 	}
 
 	private void savePlaceImage(Place savePlace, List<String> imageUrls) {
+		log.info("savePlaceImage : 장소 이미지 저장 시작! (장소 이미지 수 : {})", imageUrls.size());
+		placeImageRepository.insertAllInBatch(savePlace.getId(), imageUrls);
 		List<PlaceImage> placeImages = new ArrayList<>();
 		for (String imageUrl : imageUrls) {
-			log.info("savePlaceImage : 장소 이미지 저장 시작! (장소 이미지 URL : " + imageUrl + ")");
-			placeImages.add(placeImageRepository.save(new PlaceImage(savePlace, imageUrl)));
-			log.info("savePlaceImage : 장소 이미지 저장 완료! (장소 이미지 URL : " + imageUrl + ")");
+			placeImages.add(new PlaceImage(savePlace, imageUrl));
 		}
 		savePlace.setPlaceImages(placeImages);
+		log.info("savePlaceImage : 장소 이미지 저장 완료! (장소 이미지 수 : {})", imageUrls.size());
 	}
 
 	private Place setUpdateRequest(Place savePlace, PlaceDto.UpdateRequest updateRequest) {
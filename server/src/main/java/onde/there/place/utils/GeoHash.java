@@ -0,0 +1,119 @@
+package onde.there.place.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위도, 경도를 geohash 문자열로 변환한다.
+ * <p>
+ * geohash 는 앞부분이 같을수록 가까운 위치이므로 B-tree 인덱스에서 LIKE 'prefix%' 범위 검색으로
+ * 주변 장소 후보를 찾을 수 있다.
+ */
+public final class GeoHash {
+
+	public static final int MAX_PRECISION = 12;
+	public static final double METERS_PER_DEGREE = 111_320;
+
+	private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+	private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+	private GeoHash() {
+	}
+
+	public static String encode(double latitude, double longitude, int precision) {
+		double[] latRange = {-90, 90};
+		double[] lonRange = {-180, 180};
+		StringBuilder geohash = new StringBuilder(precision);
+		boolean isLongitude = true;
+		int bit = 0;
+		int index = 0;
+
+		while (geohash.length() < precision) {
+			double[] range = isLongitude ? lonRange : latRange;
+			double value = isLongitude ? longitude : latitude;
+			double mid = (range[0] + range[1]) / 2;
+			index <<= 1;
+			if (value >= mid) {
+				index |= 1;
+				range[0] = mid;
+			} else {
+				range[1] = mid;
+			}
+			isLongitude = !isLongitude;
+
+			if (++bit == 5) {
+				geohash.append(BASE32.charAt(index));
+				bit = 0;
+				index = 0;
+			}
+		}
+		return geohash.toString();
+	}
+
+	/**
+	 * 중심에서 radiusMeters 안의 모든 위치를 덮는 geohash 목록을 반환한다.
+	 * 한 칸의 가로, 세로가 반경 이상인 가장 작은 칸을 골라 중심 칸과 주변 8칸을 사용한다.
+	 */
+	public static List<String> coveringCells(double latitude, double longitude,
+		double radiusMeters) {
+		int precision = precisionFor(latitude, radiusMeters);
+		double latStep = cellHeight(precision);
+		double lonStep = cellWidth(precision);
+
+		List<String> cells = new ArrayList<>();
+		for (int latOffset = -1; latOffset <= 1; latOffset++) {
+			double lat = latitude + latOffset * latStep;
+			if (lat < -90 || lat > 90) {
+				continue;
+			}
+			for (int lonOffset = -1; lonOffset <= 1; lonOffset++) {
+				String cell = encode(lat, normalizeLongitude(longitude + lonOffset * lonStep),
+					precision);
+				if (!cells.contains(cell)) {
+					cells.add(cell);
+				}
+			}
+		}
+		return cells;
+	}
+
+	public static double distanceMeters(double latitude1, double longitude1,
+		double latitude2, double longitude2) {
+		double dLat = Math.toRadians(latitude2 - latitude1);
+		double dLon = Math.toRadians(longitude2 - longitude1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+			+ Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+			* Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	static int precisionFor(double latitude, double radiusMeters) {
+		double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+		for (int precision = MAX_PRECISION; precision > 1; precision--) {
+			double heightMeters = cellHeight(precision) * METERS_PER_DEGREE;
+			double widthMeters = cellWidth(precision) * METERS_PER_DEGREE * cosLatitude;
+			if (heightMeters >= radiusMeters && widthMeters >= radiusMeters) {
+				return precision;
+			}
+		}
+		return 1;
+	}
+
+	private static double cellHeight(int precision) {
+		return 180 / Math.pow(2, (5 * precision) / 2);
+	}
+
+	private static double cellWidth(int precision) {
+		return 360 / Math.pow(2, (5 * precision + 1) / 2);
+	}
+
+	private static double normalizeLongitude(double longitude) {
+		if (longitude > 180) {
+			return longitude - 360;
+		}
+		if (longitude < -180) {
+			return longitude + 360;
+		}
+		return longitude;
+	}
+}
@@ -2,7 +2,9 @@ package onde.there.comment.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,14 +16,12 @@ import onde.there.domain.Member;
 import onde.there.domain.Place;
 import onde.there.dto.comment.CommentDto;
 import onde.there.dto.comment.CommentDto.Response;
+import onde.there.dto.comment.CommentDto.SliceResponse;
 import onde.there.member.repository.MemberRepository;
 import onde.there.place.repository.PlaceRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -102,11 +102,11 @@ class CommentServiceTest {
 					.text(commentText).build()
 				, member.getId()));
 		}
-		Pageable pageable = PageRequest.of(0, 3);
 		//when
-		Page<Response> responses = commentService.getComments(place.getId(), pageable);
+		SliceResponse responses = commentService.getComments(place.getId(), null, 3);
 		//then
-		for (Response response : responses) {
+		assertEquals(3, responses.getTotalElements());
+		for (Response response : responses.getContent()) {
 			System.out.println(response.getText());
 			assertFalse(comments.contains(response.getText()));
 		}
@@ -125,10 +125,9 @@ class CommentServiceTest {
 					.text(commentText).build()
 				, member.getId()));
 		}
-		Pageable pageable = PageRequest.of(0, 3);
 		//when
 		CommentException commentException = assertThrows(CommentException.class,
-			() -> commentService.getComments(10000000L, pageable));
+			() -> commentService.getComments(10000000L, null, 3));
 		//then
 		assertEquals(CommentErrorCode.NOT_FOUND_PLACE, commentException.getErrorCode());
 	}
@@ -141,10 +140,51 @@ class CommentServiceTest {
 
 		//when
 
-		Page<Response> commentList = commentService.getComments(place.getId(),
-			PageRequest.of(0, 10));
+		SliceResponse commentList = commentService.getComments(place.getId(), null, 10);
 		//then
 		assertEquals(0, commentList.getContent().size());
+		assertEquals(0, commentList.getTotalElements());
+		assertTrue(commentList.isLast());
+		assertNull(commentList.getLastCommentId());
+	}
+
+	@Test
+	void 댓글_조회_다음페이지() {
+		//given
+		Member member = memberRepository.save(new Member("asd", "", "", ""));
+		Place place = placeRepository.save(new Place());
+		List<Long> commentIds = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			commentIds.add(commentService.createComment(CommentDto.CreateRequest.builder()
+					.placeId(place.getId())
+					.text(String.format("%d번째 댓글", i)).build()
+				, member.getId()).getId());
+		}
+
+		//when
+		SliceResponse first = commentService.getComments(place.getId(), null, 2);
+		SliceResponse second = commentService.getComments(place.getId(),
+			first.getLastCommentId(), 2);
+		SliceResponse third = commentService.getComments(place.getId(),
+			second.getLastCommentId(), 2);
+
+		//then
+		assertEquals(List.of(commentIds.get(4), commentIds.get(3)), toCommentIds(first));
+		assertEquals(List.of(commentIds.get(2), commentIds.get(1)), toCommentIds(second));
+		assertEquals(List.of(commentIds.get(0)), toCommentIds(third));
+		assertTrue(first.isHasNext());
+		assertTrue(second.isHasNext());
+		assertFalse(third.isHasNext());
+		assertTrue(third.isLast());
+		assertEquals(5, third.getTotalElements());
+	}
+
+	private List<Long> toCommentIds(SliceResponse slice) {
+		List<Long> ids = new ArrayList<>();
+		for (Response response : slice.getContent()) {
+			ids.add(response.getCommentId());
+		}
+		return ids;
 	}
 
 	@Test
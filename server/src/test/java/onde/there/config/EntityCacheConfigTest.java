@@ -0,0 +1,34 @@
+package onde.there.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EntityCacheConfigTest {
+
+	@Test
+	@DisplayName("같은 JVM 의 두 컨텍스트가 각자 CacheManager 와 캐시를 생성")
+	void separateCacheManagers() {
+		//given
+		//when
+		try (CacheManager first = entityCacheManager();
+			CacheManager second = entityCacheManager()) {
+
+			//then
+			assertNotSame(first, second);
+			assertNotNull(first.getCache(EntityCacheConfig.MEMBER_REGION));
+			assertNotNull(second.getCache(EntityCacheConfig.JOURNEY_REGION));
+		}
+	}
+
+	private CacheManager entityCacheManager() {
+		EntityCacheConfig config = new EntityCacheConfig();
+		ReflectionTestUtils.setField(config, "ttlMinutes", 10L);
+		ReflectionTestUtils.setField(config, "maximumSize", 100L);
+		return config.entityCacheManager();
+	}
+}
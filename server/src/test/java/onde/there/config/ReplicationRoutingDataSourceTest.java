@@ -0,0 +1,141 @@
+package onde.there.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private DataSource primary;
+	private DataSource replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = node("primary");
+		replica = node("replica");
+	}
+
+	@Test
+	@DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖은 primary 사용")
+	void route() {
+		//given
+		ReplicaLagMonitor monitor = monitor("");
+		monitor.check();
+		DataSource dataSource = routing(monitor);
+
+		//when
+		String readOnly = nodeName(dataSource, true);
+		String readWrite = nodeName(dataSource, false);
+		String outside = new JdbcTemplate(dataSource)
+			.queryForObject("select name from node", String.class);
+
+		//then
+		assertEquals("replica", readOnly);
+		assertEquals("primary", readWrite);
+		assertEquals("primary", outside);
+		assertEquals(1, count("replica", true));
+	}
+
+	@Test
+	@DisplayName("복제 지연이 max-lag-seconds 를 넘으면 readOnly 트랜잭션도 primary 사용")
+	void fallbackWhenLagging() {
+		//given
+		ReplicaLagMonitor monitor = monitor("select 10 as Seconds_Behind_Master");
+		monitor.check();
+
+		//when
+		String readOnly = nodeName(routing(monitor), true);
+
+		//then
+		assertFalse(monitor.isAvailable());
+		assertEquals("primary", readOnly);
+		assertEquals(1, count("primary", true));
+		assertEquals(10.0, meterRegistry.get("datasource.replica.lag").gauge().value());
+	}
+
+	@Test
+	@DisplayName("복제가 멈췄거나 지연 확인에 실패하면 readOnly 트랜잭션도 primary 사용")
+	void fallbackWhenUnknown() {
+		//given
+		ReplicaLagMonitor stopped = monitor("select null as Seconds_Behind_Master");
+		stopped.check();
+		ReplicaLagMonitor failed = monitor("select lag from unknown_table");
+		failed.check();
+		ReplicaLagMonitor notChecked = monitor("");
+
+		//when
+		//then
+		assertEquals("primary", nodeName(routing(stopped), true));
+		assertEquals("primary", nodeName(routing(failed), true));
+		assertEquals("primary", nodeName(routing(notChecked), true));
+	}
+
+	@Test
+	@DisplayName("복제 지연이 max-lag-seconds 이하로 돌아오면 다시 replica 사용")
+	void recover() {
+		//given
+		JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replica);
+		replicaJdbcTemplate.execute("create table replica_status (Seconds_Behind_Master bigint)");
+		replicaJdbcTemplate.update("insert into replica_status values (10)");
+		ReplicaLagMonitor monitor = monitor("select Seconds_Behind_Master from replica_status");
+		monitor.check();
+		DataSource dataSource = routing(monitor);
+		String lagging = nodeName(dataSource, true);
+
+		//when
+		replicaJdbcTemplate.update("update replica_status set Seconds_Behind_Master = 3");
+		monitor.check();
+
+		//then
+		assertEquals("primary", lagging);
+		assertEquals("replica", nodeName(dataSource, true));
+	}
+
+	private ReplicaLagMonitor monitor(String lagQuery) {
+		return new ReplicaLagMonitor(new JdbcTemplate(replica), lagQuery, 5, meterRegistry);
+	}
+
+	private DataSource routing(ReplicaLagMonitor monitor) {
+		return new LazyConnectionDataSourceProxy(
+			new ReplicationRoutingDataSource(primary, replica, monitor, meterRegistry));
+	}
+
+	private String nodeName(DataSource dataSource, boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+			new DataSourceTransactionManager(dataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+			.queryForObject("select name from node", String.class));
+	}
+
+	private double count(String target, boolean readOnly) {
+		return meterRegistry.get(ReplicationRoutingDataSource.METRIC_NAME)
+			.tag("target", target)
+			.tag("readOnly", String.valueOf(readOnly))
+			.counter()
+			.count();
+	}
+
+	// 어느 DB 에서 읽었는지 알 수 있도록 node 테이블에 이름을 넣어 둔다
+	private static DataSource node(String name) {
+		DataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table node (name varchar(10))");
+		jdbcTemplate.update("insert into node values (?)", name);
+		return dataSource;
+	}
+}
@@ -0,0 +1,62 @@
+package onde.there.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SamplingTurboFilterTest {
+
+	private final LoggerContext loggerContext = new LoggerContext();
+
+	@Test
+	@DisplayName("대상 로거의 INFO 로그는 rate 개 중 1 개만 통과")
+	void sampleInfo() {
+		//given
+		SamplingTurboFilter filter = filter();
+		Logger logger = loggerContext.getLogger("onde.there.place.service.PlaceService");
+
+		//when
+		int passed = 0;
+		for (int i = 0; i < 30; i++) {
+			if (filter.decide(null, logger, Level.INFO, "log {}", null, null)
+				== FilterReply.NEUTRAL) {
+				passed++;
+			}
+		}
+
+		//then
+		assertEquals(3, passed);
+	}
+
+	@Test
+	@DisplayName("WARN 이상, 다른 로거, 레벨 확인 호출은 거르지 않음")
+	void notSampled() {
+		//given
+		SamplingTurboFilter filter = filter();
+		Logger logger = loggerContext.getLogger("onde.there.place.service.PlaceService");
+		Logger otherLogger = loggerContext.getLogger("onde.there.comment.service.CommentService");
+
+		//when, then
+		for (int i = 0; i < 10; i++) {
+			assertEquals(FilterReply.NEUTRAL,
+				filter.decide(null, logger, Level.WARN, "log {}", null, null));
+			assertEquals(FilterReply.NEUTRAL,
+				filter.decide(null, otherLogger, Level.INFO, "log {}", null, null));
+			assertEquals(FilterReply.NEUTRAL,
+				filter.decide(null, logger, Level.INFO, null, null, null));
+		}
+	}
+
+	private SamplingTurboFilter filter() {
+		SamplingTurboFilter filter = new SamplingTurboFilter();
+		filter.setLoggerPrefix("onde.there.place.service.PlaceService");
+		filter.setRate(10);
+		filter.start();
+		return filter;
+	}
+}
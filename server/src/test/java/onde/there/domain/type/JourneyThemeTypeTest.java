@@ -0,0 +1,42 @@
+package onde.there.domain.type;
+
+import static onde.there.journey.exception.JourneyErrorCode.THERE_IS_NO_MATCHING_THEME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import onde.there.journey.exception.JourneyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JourneyThemeTypeTest {
+
+	@Test
+	@DisplayName("테마 이름으로 조회")
+	void findByTheme() {
+		for (JourneyThemeType type : JourneyThemeType.values()) {
+			assertEquals(type, JourneyThemeType.findByTheme(type.getThemeName()));
+		}
+
+		JourneyException exception = assertThrows(JourneyException.class,
+			() -> JourneyThemeType.findByTheme("없는테마"));
+		assertEquals(THERE_IS_NO_MATCHING_THEME, exception.getErrorCode());
+		assertThrows(JourneyException.class, () -> JourneyThemeType.findByTheme(null));
+	}
+
+	@Test
+	@DisplayName("테마 집합을 비트마스크로 저장하고 복원")
+	void maskRoundTrip() {
+		EnumSet<JourneyThemeType> themes = JourneyThemeType.findAllByTheme(
+			Arrays.asList("힐링", "식도락", "힐링"));
+
+		int mask = JourneyThemeType.toMask(themes);
+
+		assertEquals(EnumSet.of(JourneyThemeType.HEALING, JourneyThemeType.RESTAURANT),
+			JourneyThemeType.fromMask(mask));
+		assertEquals(EnumSet.allOf(JourneyThemeType.class), JourneyThemeType.fromMask(
+			JourneyThemeType.toMask(EnumSet.allOf(JourneyThemeType.class))));
+		assertEquals(EnumSet.noneOf(JourneyThemeType.class), JourneyThemeType.fromMask(0));
+	}
+}
@@ -0,0 +1,303 @@
+package onde.there.image.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import onde.there.image.exception.ImageErrorCode;
+import onde.there.image.exception.ImageException;
+import onde.there.place.repository.PlaceImageRepository;
+import onde.there.place.repository.PlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class AwsS3ServiceTest {
+
+	private static final String BASE_URL = "https://test-bucket/";
+
+	private AmazonS3 amazonS3;
+	private TransferManager transferManager;
+	private AwsS3Service awsS3Service;
+
+	// 업로드된 파일 이름 -> 파일 크기
+	private final Map<String, Long> storage = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		amazonS3 = mock(AmazonS3.class);
+		given(amazonS3.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+			PutObjectRequest request = invocation.getArgument(0);
+			long size = request.getMetadata().getContentLength();
+			// 먼저 요청한 파일일수록 늦게 끝나도록 지연
+			Thread.sleep(300 - size * 10);
+			storage.put(request.getKey(), size);
+			return new PutObjectResult();
+		});
+
+		transferManager = TransferManagerBuilder.standard()
+			.withS3Client(amazonS3)
+			.withExecutorFactory(() -> Executors.newFixedThreadPool(4))
+			.build();
+
+		awsS3Service = new AwsS3Service(amazonS3, transferManager,
+			mock(PlaceRepository.class), mock(PlaceImageRepository.class));
+		ReflectionTestUtils.setField(awsS3Service, "bucket", "test-bucket");
+		ReflectionTestUtils.setField(awsS3Service, "baseUrl", BASE_URL);
+	}
+
+	@AfterEach
+	void tearDown() {
+		transferManager.shutdownNow(false);
+	}
+
+	@Test
+	@DisplayName("여러 이미지 업로드 - 입력 순서대로 url 반환")
+	void uploadFilesInInputOrder() {
+		//given
+		List<MultipartFile> files = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			files.add(new MockMultipartFile(String.valueOf(i), i + ".png", "image/png",
+				new byte[i]));
+		}
+
+		//when
+		List<String> urls = awsS3Service.uploadFiles(files);
+
+		//then
+		assertEquals(5, urls.size());
+		assertEquals(5, storage.size());
+		for (int i = 0; i < urls.size(); i++) {
+			String fileName = urls.get(i).replace(BASE_URL, "");
+			assertTrue(fileName.endsWith(".png"));
+			assertEquals(i + 1, storage.get(fileName));
+		}
+	}
+
+	@Test
+	@DisplayName("이미지가 아닌 파일 포함 - 업로드 시작 전 실패")
+	void uploadFilesNotImageExtension() {
+		//given
+		List<MultipartFile> files = Arrays.asList(
+			new MockMultipartFile("1", "1.png", "image/png", new byte[1]),
+			new MockMultipartFile("2", "2.txt", "text/plain", new byte[1]));
+
+		//when
+		ImageException exception = assertThrows(ImageException.class,
+			() -> awsS3Service.uploadFiles(files));
+
+		//then
+		assertEquals(ImageErrorCode.NOT_IMAGE_EXTENSION, exception.getErrorCode());
+		verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+	}
+
+	@Test
+	@DisplayName("빈 파일 목록 업로드 실패")
+	void uploadFilesEmpty() {
+		//when
+		ImageException exception = assertThrows(ImageException.class,
+			() -> awsS3Service.uploadFiles(Collections.emptyList()));
+
+		//then
+		assertEquals(ImageErrorCode.EMPTY_FILE, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("If-None-Match 일치 - S3 조회 없이 304 반환")
+	void getImageFileNotModified() throws IOException {
+		//given
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"image.png\"");
+
+		//when
+		ResponseEntity<StreamingResponseBody> response = awsS3Service.getImageFile(
+			BASE_URL + "image.png", headers);
+
+		//then
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		assertEquals("\"image.png\"", response.getHeaders().getETag());
+		verifyNoInteractions(amazonS3);
+	}
+
+	@Test
+	@DisplayName("If-None-Match: * - 객체가 있는지 모르므로 304 대신 S3 에서 조회")
+	void getImageFileIfNoneMatchAny() throws IOException {
+		//given
+		AmazonS3Exception notFound = new AmazonS3Exception("NoSuchKey");
+		notFound.setStatusCode(HttpStatus.NOT_FOUND.value());
+		given(amazonS3.getObject(any(GetObjectRequest.class))).willThrow(notFound);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("*");
+
+		//when
+		ImageException exception = assertThrows(ImageException.class,
+			() -> awsS3Service.getImageFile(BASE_URL + "missing.png", headers));
+
+		//then
+		assertEquals(ImageErrorCode.NOT_FOUND_FILE, exception.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("Range 요청 - 요청한 구간만 206 으로 반환")
+	void getImageFilePartialContent() throws IOException {
+		//given
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(100);
+		given(amazonS3.getObjectMetadata("test-bucket", "image.png"))
+			.willReturn(objectMetadata);
+
+		ObjectMetadata rangeMetadata = new ObjectMetadata();
+		rangeMetadata.setContentLength(10);
+		rangeMetadata.setContentType("image/jpeg");
+		rangeMetadata.setHeader(Headers.CONTENT_RANGE, "bytes 90-99/100");
+		S3Object s3Object = new S3Object();
+		s3Object.setObjectMetadata(rangeMetadata);
+		s3Object.setObjectContent(new ByteArrayInputStream(new byte[10]));
+		ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(
+			GetObjectRequest.class);
+		given(amazonS3.getObject(requestCaptor.capture())).willReturn(s3Object);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RANGE, "bytes=-10");
+
+		//when
+		ResponseEntity<StreamingResponseBody> response = awsS3Service.getImageFile(
+			BASE_URL + "image.png", headers);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		response.getBody().writeTo(outputStream);
+
+		//then
+		assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+		assertArrayEquals(new long[]{90, 99}, requestCaptor.getValue().getRange());
+		assertEquals("bytes 90-99/100",
+			response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+		assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+		assertEquals(10, response.getHeaders().getContentLength());
+		assertEquals(10, outputStream.size());
+	}
+
+	@Test
+	@DisplayName("시작 위치가 있는 Range 요청 - 파일 크기 조회 없이 S3 응답의 Content-Range 로 206 반환")
+	void getImageFilePartialContentWithoutMetadata() throws IOException {
+		//given
+		ObjectMetadata rangeMetadata = new ObjectMetadata();
+		rangeMetadata.setContentLength(10);
+		rangeMetadata.setContentType("image/jpeg");
+		rangeMetadata.setHeader(Headers.CONTENT_RANGE, "bytes 90-99/100");
+		S3Object s3Object = new S3Object();
+		s3Object.setObjectMetadata(rangeMetadata);
+		s3Object.setObjectContent(new ByteArrayInputStream(new byte[10]));
+		ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(
+			GetObjectRequest.class);
+		given(amazonS3.getObject(requestCaptor.capture())).willReturn(s3Object);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RANGE, "bytes=90-");
+
+		//when
+		ResponseEntity<StreamingResponseBody> response = awsS3Service.getImageFile(
+			BASE_URL + "image.png", headers);
+
+		//then
+		assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+		assertEquals(90, requestCaptor.getValue().getRange()[0]);
+		assertEquals("bytes 90-99/100",
+			response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+		assertEquals(10, response.getHeaders().getContentLength());
+		verify(amazonS3, never()).getObjectMetadata(any(String.class), any(String.class));
+	}
+
+	@Test
+	@DisplayName("파일 크기를 벗어난 Range 요청 - 416 반환")
+	void getImageFileRangeNotSatisfiable() throws IOException {
+		//given
+		AmazonS3Exception invalidRange = new AmazonS3Exception("InvalidRange");
+		invalidRange.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+		given(amazonS3.getObject(any(GetObjectRequest.class))).willThrow(invalidRange);
+
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(100);
+		given(amazonS3.getObjectMetadata("test-bucket", "image.png"))
+			.willReturn(objectMetadata);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RANGE, "bytes=200-");
+
+		//when
+		ResponseEntity<StreamingResponseBody> response = awsS3Service.getImageFile(
+			BASE_URL + "image.png", headers);
+
+		//then
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+		assertEquals("bytes */100",
+			response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	@DisplayName("여러 이미지 삭제 - 리사이즈 이미지 포함 1000개씩 나눠서 삭제")
+	void deleteFilesInBatches() {
+		//given
+		List<String> urls = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			urls.add(BASE_URL + i + ".png");
+		}
+
+		//when
+		awsS3Service.deleteFiles(urls);
+
+		//then
+		ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(
+			DeleteObjectsRequest.class);
+		verify(amazonS3, times(2)).deleteObjects(captor.capture());
+		List<DeleteObjectsRequest> requests = captor.getAllValues();
+		assertEquals(1000, requests.get(0).getKeys().size());
+		assertEquals(200, requests.get(1).getKeys().size());
+		List<String> keys = requests.get(0).getKeys().stream()
+			.map(KeyVersion::getKey)
+			.collect(Collectors.toList());
+		assertEquals(List.of("0.png", "0_w160.jpg", "0_w480.jpg", "0_w1080.jpg"),
+			keys.subList(0, 4));
+	}
+}
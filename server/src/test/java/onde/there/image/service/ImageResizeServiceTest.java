@@ -0,0 +1,122 @@
+package onde.there.image.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.imageio.ImageIO;
+import onde.there.journey.repository.JourneyRepository;
+import onde.there.place.repository.PlaceImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ImageResizeServiceTest {
+
+	private static final String BASE_URL = "https://test-bucket.s3.amazonaws.com/";
+
+	private AmazonS3 amazonS3;
+	private PlaceImageRepository placeImageRepository;
+	private JourneyRepository journeyRepository;
+	private ImageResizeService imageResizeService;
+
+	@BeforeEach
+	void setUp() {
+		amazonS3 = mock(AmazonS3.class);
+		placeImageRepository = mock(PlaceImageRepository.class);
+		journeyRepository = mock(JourneyRepository.class);
+		imageResizeService = new ImageResizeService(amazonS3, placeImageRepository,
+			journeyRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+		ReflectionTestUtils.setField(imageResizeService, "bucket", "test-bucket");
+		ReflectionTestUtils.setField(imageResizeService, "baseUrl", BASE_URL);
+	}
+
+	@Test
+	@DisplayName("리사이즈 - 비율 유지")
+	void resizeKeepsAspectRatio() {
+		//given
+		BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+		//when
+		BufferedImage resized = ImageResizeService.resize(source, 160);
+
+		//then
+		assertEquals(160, resized.getWidth());
+		assertEquals(80, resized.getHeight());
+	}
+
+	@Test
+	@DisplayName("리사이즈 - 원본보다 크게 확대하지 않음")
+	void resizeDoesNotUpscale() {
+		//given
+		BufferedImage source = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+
+		//when
+		BufferedImage resized = ImageResizeService.resize(source, 1080);
+
+		//then
+		assertEquals(300, resized.getWidth());
+		assertEquals(200, resized.getHeight());
+	}
+
+	@Test
+	@DisplayName("원본 이미지로 리사이즈 이미지 3개 저장 후 variantReady 표시")
+	void createVariants() throws IOException {
+		//given
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(1200, 900, BufferedImage.TYPE_INT_ARGB), "png",
+			outputStream);
+		S3Object s3Object = new S3Object();
+		s3Object.setObjectContent(new ByteArrayInputStream(outputStream.toByteArray()));
+		given(amazonS3.getObject("test-bucket", "image.png")).willReturn(s3Object);
+
+		//when
+		imageResizeService.createVariants(Collections.singletonList(BASE_URL + "image.png"));
+
+		//then
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(
+			PutObjectRequest.class);
+		verify(amazonS3, times(3)).putObject(captor.capture());
+		List<String> keys = captor.getAllValues().stream()
+			.map(PutObjectRequest::getKey)
+			.collect(Collectors.toList());
+		assertEquals(List.of("image_w160.jpg", "image_w480.jpg", "image_w1080.jpg"), keys);
+		assertEquals("image/jpeg", captor.getValue().getMetadata().getContentType());
+		verify(placeImageRepository).markVariantReadyByUrlIn(List.of(BASE_URL + "image.png"));
+	}
+
+	@Test
+	@DisplayName("리사이즈 이미지 저장 실패 - variantReady 표시 안 함")
+	void createVariantsFailed() {
+		//given
+		given(amazonS3.getObject("test-bucket", "image.png"))
+			.willThrow(new AmazonClientException("S3 오류"));
+
+		//when
+		imageResizeService.createVariants(Collections.singletonList(BASE_URL + "image.png"));
+
+		//then
+		verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+		verifyNoInteractions(placeImageRepository, journeyRepository);
+	}
+}
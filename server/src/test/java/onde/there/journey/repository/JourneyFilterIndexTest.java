@@ -0,0 +1,81 @@
+package onde.there.journey.repository;
+
+import static onde.there.domain.type.JourneyThemeType.CAMPING;
+import static onde.there.domain.type.JourneyThemeType.HEALING;
+import static onde.there.domain.type.JourneyThemeType.PET;
+import static onde.there.domain.type.RegionType.BUSAN;
+import static onde.there.domain.type.RegionType.JEJU;
+import static onde.there.domain.type.RegionType.SEOUL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.RegionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+class JourneyFilterIndexTest {
+
+	private final List<RegionType> noRegion = Collections.emptyList();
+	private final List<JourneyThemeType> noTheme = Collections.emptyList();
+
+	private JourneyFilterIndex journeyFilterIndex;
+
+	@BeforeEach
+	void setUp() {
+		journeyFilterIndex = new JourneyFilterIndex();
+		journeyFilterIndex.update(1L, true, SEOUL, List.of(HEALING));
+		journeyFilterIndex.update(2L, true, JEJU, List.of(HEALING, CAMPING));
+		journeyFilterIndex.update(3L, true, BUSAN, List.of(PET));
+		journeyFilterIndex.update(4L, false, JEJU, List.of(CAMPING));
+		journeyFilterIndex.update(5L, true, JEJU, List.of(PET));
+	}
+
+	@Test
+	@DisplayName("지역은 OR, 테마는 OR, 지역과 테마는 AND")
+	void filter() {
+		assertEquals(List.of(5L, 3L, 2L, 1L), ids(journeyFilterIndex.filter(noRegion, noTheme,
+			null)));
+		assertEquals(List.of(5L, 2L), ids(journeyFilterIndex.filter(List.of(JEJU), noTheme,
+			null)));
+		assertEquals(List.of(5L, 3L, 2L), ids(journeyFilterIndex.filter(List.of(JEJU, BUSAN),
+			noTheme, null)));
+		assertEquals(List.of(5L, 2L), ids(journeyFilterIndex.filter(List.of(JEJU),
+			List.of(CAMPING, PET), null)));
+		assertEquals(List.of(2L), ids(journeyFilterIndex.filter(noRegion, noTheme,
+			Roaring64NavigableMap.bitmapOf(2L, 4L))));
+	}
+
+	@Test
+	@DisplayName("수정 시 기존 지역, 테마 제거, 비공개 전환 시 색인 제거")
+	void update() {
+		journeyFilterIndex.update(1L, true, BUSAN, List.of(PET));
+		journeyFilterIndex.update(2L, false, JEJU, List.of(HEALING));
+
+		assertEquals(List.of(5L, 3L, 1L), ids(journeyFilterIndex.filter(noRegion, List.of(PET),
+			null)));
+		assertEquals(Collections.emptyList(), ids(journeyFilterIndex.filter(noRegion,
+			List.of(HEALING), null)));
+
+		journeyFilterIndex.remove(5L);
+		assertEquals(List.of(3L, 1L), ids(journeyFilterIndex.filter(noRegion, noTheme, null)));
+	}
+
+	@Test
+	@DisplayName("아이디 내림차순 페이지")
+	void page() {
+		Roaring64NavigableMap journeyIds = journeyFilterIndex.filter(noRegion, noTheme, null);
+
+		assertEquals(4, journeyIds.getLongCardinality());
+		assertEquals(List.of(5L, 3L), JourneyFilterIndex.page(journeyIds, 0, 2));
+		assertEquals(List.of(2L, 1L), JourneyFilterIndex.page(journeyIds, 2, 2));
+		assertEquals(Collections.emptyList(), JourneyFilterIndex.page(journeyIds, 4, 2));
+	}
+
+	private List<Long> ids(Roaring64NavigableMap journeyIds) {
+		return JourneyFilterIndex.page(journeyIds, 0, Integer.MAX_VALUE);
+	}
+}
@@ -0,0 +1,222 @@
+package onde.there.journey.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import onde.there.domain.Journey;
+import onde.there.domain.JourneyTheme;
+import onde.there.domain.Member;
+import onde.there.domain.type.JourneyThemeType;
+import onde.there.domain.type.RegionType;
+import onde.there.dto.journy.JourneyDto;
+import onde.there.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class JourneyRepositoryImplTest {
+
+	// 다른 테스트 데이터와 섞이지 않도록 검색어로 이 테스트의 여정만 찾는다
+	private static final String KEYWORD = "색인정합성테스트";
+
+	@Autowired
+	private JourneyRepository journeyRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JourneyThemeRepository journeyThemeRepository;
+
+	@Autowired
+	private JourneySearchIndex journeySearchIndex;
+
+	@Autowired
+	private JourneyFilterIndex journeyFilterIndex;
+
+	private final List<Long> indexedIds = new ArrayList<>();
+	private boolean filterIndexReady;
+
+	@BeforeEach
+	void setUp() {
+		filterIndexReady = journeyFilterIndex.isReady();
+	}
+
+	@AfterEach
+	void tearDown() {
+		// 색인은 트랜잭션과 함께 롤백되지 않는다
+		for (Long journeyId : indexedIds) {
+			journeySearchIndex.delete(journeyId);
+			journeyFilterIndex.remove(journeyId);
+		}
+		journeySearchIndex.refresh();
+		journeyFilterIndex.setReady(filterIndexReady);
+	}
+
+	@Test
+	@DisplayName("색인에 공개로 남은 비공개 여정은 목록과 전체 갯수에서 빠지고 색인에서 제거")
+	void searchAllSkipsStaleIndex() {
+		//given
+		Member member = memberRepository.save(new Member("tHereId", "tHereEmail",
+			"tHerePassword", "온데", "testNickname"));
+		Journey publicJourney = journeyRepository.save(journey(member, "public"));
+		Journey privateJourney = journeyRepository.save(journey(member, "private"));
+		index(publicJourney);
+		// 다른 서버에서 비공개로 바뀌었지만 이 서버 색인에는 반영되지 않은 경우
+		index(privateJourney);
+		journeyFilterIndex.setReady(true);
+
+		//when
+		Slice<Journey> result = journeyRepository.searchAll(
+			JourneyDto.FilteringRequest.builder().keyword(KEYWORD).build(),
+			PageRequest.of(0, 10), true);
+
+		//then
+		assertEquals(List.of(publicJourney.getId()), ids(result));
+		assertEquals(1, ((Page<Journey>) result).getTotalElements());
+		assertFalse(journeyFilterIndex.publicJourneyIds().contains(privateJourney.getId()));
+	}
+
+	@Test
+	@DisplayName("DB 조회 - 전체 갯수 없이 한 페이지보다 하나 더 가져와 다음 페이지 여부 결정")
+	void searchAllFromDatabaseWithoutTotal() {
+		//given
+		Member member = memberRepository.save(new Member("tHereId", "tHereEmail",
+			"tHerePassword", "온데", "testNickname"));
+		Journey first = journeyRepository.save(journey(member, "public"));
+		Journey second = journeyRepository.save(journey(member, "public"));
+		Journey third = journeyRepository.save(journey(member, "public"));
+		index(first);
+		index(second);
+		index(third);
+		journeyFilterIndex.setReady(false);
+		JourneyDto.FilteringRequest request = JourneyDto.FilteringRequest.builder()
+			.keyword(KEYWORD)
+			.build();
+
+		//when
+		Slice<Journey> firstPage = journeyRepository.searchAll(request,
+			PageRequest.of(0, 2), false);
+		Slice<Journey> lastPage = journeyRepository.searchAll(request,
+			PageRequest.of(1, 2), false);
+
+		//then
+		assertEquals(SliceImpl.class, firstPage.getClass());
+		assertEquals(List.of(third.getId(), second.getId()), ids(firstPage));
+		assertTrue(firstPage.hasNext());
+		assertEquals(List.of(first.getId()), ids(lastPage));
+		assertFalse(lastPage.hasNext());
+	}
+
+	@Test
+	@DisplayName("DB 조회 - 테마 조건은 요청한 테마 중 하나라도 있는 여정만 중복 없이 반환")
+	void searchAllFromDatabaseByTheme() {
+		//given
+		Member member = memberRepository.save(new Member("tHereId", "tHereEmail",
+			"tHerePassword", "온데", "testNickname"));
+		Journey healingAndCity = journeyRepository.save(journey(member, "public"));
+		Journey leisure = journeyRepository.save(journey(member, "public"));
+		Journey noTheme = journeyRepository.save(journey(member, "public"));
+		theme(healingAndCity, JourneyThemeType.HEALING);
+		theme(healingAndCity, JourneyThemeType.CITY);
+		theme(leisure, JourneyThemeType.LEISURE);
+		index(healingAndCity);
+		index(leisure);
+		index(noTheme);
+		journeyFilterIndex.setReady(false);
+
+		//when
+		Slice<Journey> result = journeyRepository.searchAll(
+			JourneyDto.FilteringRequest.builder()
+				.keyword(KEYWORD)
+				.themes(List.of(JourneyThemeType.HEALING.getThemeName(),
+					JourneyThemeType.CITY.getThemeName()))
+				.build(),
+			PageRequest.of(0, 10), true);
+
+		//then
+		assertEquals(List.of(healingAndCity.getId()), ids(result));
+		assertEquals(1, ((Page<Journey>) result).getTotalElements());
+	}
+
+	@Test
+	@DisplayName("테마 조건이 없으면 테마가 없는 여정도 반환")
+	void searchAllIncludesJourneyWithoutTheme() {
+		//given
+		Member member = memberRepository.save(new Member("tHereId", "tHereEmail",
+			"tHerePassword", "온데", "testNickname"));
+		Journey themed = journeyRepository.save(journey(member, "public"));
+		Journey noTheme = journeyRepository.save(journey(member, "public"));
+		theme(themed, JourneyThemeType.HEALING);
+		index(themed);
+		index(noTheme);
+		JourneyDto.FilteringRequest request = JourneyDto.FilteringRequest.builder()
+			.keyword(KEYWORD)
+			.build();
+
+		//when
+		journeyFilterIndex.setReady(false);
+		Slice<Journey> fromDatabase = journeyRepository.searchAll(request,
+			PageRequest.of(0, 10), true);
+		journeyFilterIndex.setReady(true);
+		Slice<Journey> fromIndex = journeyRepository.searchAll(request,
+			PageRequest.of(0, 10), true);
+
+		//then
+		assertEquals(List.of(noTheme.getId(), themed.getId()), ids(fromDatabase));
+		assertEquals(2, ((Page<Journey>) fromDatabase).getTotalElements());
+		assertTrue(ids(fromIndex).contains(noTheme.getId()));
+		assertEquals(2, ((Page<Journey>) fromIndex).getTotalElements());
+	}
+
+	private void theme(Journey journey, JourneyThemeType themeType) {
+		journeyThemeRepository.save(JourneyTheme.builder()
+			.journey(journey)
+			.journeyThemeName(themeType)
+			.build());
+	}
+
+	private void index(Journey journey) {
+		journeySearchIndex.index(journey.getId(), journey.getTitle(), null,
+			Collections.emptyList());
+		journeySearchIndex.refresh();
+		journeyFilterIndex.update(journey.getId(), true, journey.getRegion(),
+			Collections.emptyList());
+		indexedIds.add(journey.getId());
+	}
+
+	private Journey journey(Member member, String disclosure) {
+		return Journey.builder()
+			.member(member)
+			.title(KEYWORD)
+			.startDate(LocalDate.parse("2022-10-16"))
+			.endDate(LocalDate.parse("2022-10-17"))
+			.disclosure(disclosure)
+			.introductionText("테스트 소개 글")
+			.numberOfPeople(2)
+			.region(RegionType.SEOUL)
+			.build();
+	}
+
+	private List<Long> ids(Slice<Journey> journeys) {
+		return journeys.getContent().stream()
+			.map(Journey::getId)
+			.collect(Collectors.toList());
+	}
+}
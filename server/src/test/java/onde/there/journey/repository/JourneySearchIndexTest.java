@@ -0,0 +1,112 @@
+package onde.there.journey.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+class JourneySearchIndexTest {
+
+	private JourneySearchIndex journeySearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		journeySearchIndex = new JourneySearchIndex();
+		journeySearchIndex.index(1L, "제주도 한 달 살기", "바다가 보이는 숙소",
+			List.of("성산일출봉", "협재해수욕장"));
+		journeySearchIndex.index(2L, "서울 야경 투어", "남산타워에서 본 서울",
+			List.of("남산서울타워"));
+		journeySearchIndex.index(3L, "Busan trip", null, Collections.emptyList());
+		journeySearchIndex.refresh();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		journeySearchIndex.close();
+	}
+
+	@Test
+	@DisplayName("제목 중간 단어로 검색")
+	void searchTitleSubstring() {
+		assertEquals(List.of(1L), search("한 달"));
+		assertEquals(List.of(1L), search("제주"));
+	}
+
+	@Test
+	@DisplayName("소개글, 장소 이름으로 검색")
+	void searchIntroductionAndPlaceName() {
+		assertEquals(List.of(1L), search("일출"));
+		assertEquals(List.of(1L), search("숙소"));
+		assertEquals(List.of(2L), search("남산"));
+	}
+
+	@Test
+	@DisplayName("한 글자, 영문 대소문자 검색")
+	void searchSingleCharacterAndLatin() {
+		assertEquals(List.of(2L), search("서"));
+		assertEquals(List.of(3L), search("busan"));
+	}
+
+	@Test
+	@DisplayName("모든 토큰이 포함된 여정만 반환")
+	void searchRequiresAllTokens() {
+		assertTrue(search("제주 야경").isEmpty());
+		assertTrue(search("   ").isEmpty());
+	}
+
+	@Test
+	@DisplayName("수정, 삭제 반영")
+	void updateAndDelete() {
+		journeySearchIndex.index(1L, "강릉 여행", null, Collections.emptyList());
+		journeySearchIndex.refresh();
+		assertTrue(search("제주").isEmpty());
+		assertEquals(List.of(1L), search("강릉"));
+
+		journeySearchIndex.delete(1L);
+		journeySearchIndex.refresh();
+		assertTrue(search("강릉").isEmpty());
+	}
+
+	@Test
+	@DisplayName("refresh 전에는 색인, 삭제가 검색에 반영되지 않음")
+	void changesVisibleAfterRefresh() {
+		journeySearchIndex.index(4L, "강릉 여행", null, Collections.emptyList());
+		journeySearchIndex.delete(1L);
+		assertTrue(search("강릉").isEmpty());
+		assertEquals(List.of(1L), search("제주"));
+
+		journeySearchIndex.refresh();
+		assertEquals(List.of(4L), search("강릉"));
+		assertTrue(search("제주").isEmpty());
+	}
+
+	@Test
+	@DisplayName("검색어에 맞는 여정은 갯수 제한 없이 모두 반환")
+	void searchAllMatches() {
+		for (long journeyId = 10; journeyId < 3010; journeyId++) {
+			journeySearchIndex.index(journeyId, "제주 여행 " + journeyId, null,
+				Collections.emptyList());
+		}
+		journeySearchIndex.refresh();
+
+		Roaring64NavigableMap journeyIds = journeySearchIndex.search("제주");
+
+		assertEquals(3001, journeyIds.getLongCardinality());
+		assertTrue(journeyIds.contains(1L));
+		assertTrue(journeyIds.contains(3009L));
+	}
+
+	private List<Long> search(String keyword) {
+		List<Long> journeyIds = new ArrayList<>();
+		journeySearchIndex.search(keyword).forEach(journeyIds::add);
+		return journeyIds;
+	}
+}
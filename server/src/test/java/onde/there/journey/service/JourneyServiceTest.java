@@ -2,11 +2,15 @@ package onde.there.journey.service;
 
 import static onde.there.journey.exception.JourneyErrorCode.THERE_IS_NO_MATCHING_THEME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -16,6 +20,8 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
@@ -27,6 +33,7 @@ import onde.there.domain.type.RegionType;
 import onde.there.dto.journy.JourneyDto;
 import onde.there.dto.journy.JourneyDto.CreateRequest;
 import onde.there.dto.journy.JourneyDto.CreateResponse;
+import onde.there.dto.journy.JourneyDto.JourneyFeedResponse;
 import onde.there.dto.journy.JourneyDto.JourneyListResponse;
 import onde.there.image.service.AwsS3Service;
 import onde.there.journey.exception.JourneyErrorCode;
@@ -41,9 +48,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class JourneyServiceTest {
@@ -66,6 +78,13 @@ public class JourneyServiceTest {
 	@Mock
 	private EntityManager entityManager;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(
+		mock(PlatformTransactionManager.class));
+
 	@InjectMocks
 	private JourneyService journeyService;
 
@@ -91,8 +110,9 @@ public class JourneyServiceTest {
 
 		ArgumentCaptor<Journey> journeyCaptor = ArgumentCaptor.forClass(
 			Journey.class);
-		ArgumentCaptor<JourneyTheme> journeyThemeCaptor = ArgumentCaptor.forClass(
-			JourneyTheme.class);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<JourneyThemeType>> journeyThemeCaptor =
+			ArgumentCaptor.forClass(Collection.class);
 
 		CreateResponse journeyDto = journeyService.createJourney(
 			CreateRequest.builder()
@@ -112,8 +132,8 @@ public class JourneyServiceTest {
 
 		verify(journeyRepository, times(1))
 			.save(journeyCaptor.capture());
-		verify(journeyThemeRepository, times(2))
-			.save(journeyThemeCaptor.capture());
+		verify(journeyThemeRepository, times(1))
+			.insertAllInBatch(any(), journeyThemeCaptor.capture());
 
 		assertEquals("testNickname", journeyDto.getNickName());
 		assertEquals("TitleTest", journeyDto.getTitle());
@@ -122,14 +142,52 @@ public class JourneyServiceTest {
 		assertEquals(LocalDate.parse("2022-10-17"),
 			journeyDto.getEndDate());
 		assertNotNull(journeyDto.getJourneyThumbnailUrl());
-		assertEquals(JourneyThemeType.HEALING,
-			journeyThemeCaptor.getAllValues().get(0).getJourneyThemeName());
-		assertEquals(JourneyThemeType.RESTAURANT,
-			journeyThemeCaptor.getAllValues().get(1).getJourneyThemeName());
+		assertEquals(EnumSet.of(JourneyThemeType.HEALING, JourneyThemeType.RESTAURANT),
+			EnumSet.copyOf(journeyThemeCaptor.getValue()));
 		assertEquals("서울", journeyDto.getRegion());
 
 	}
 
+	@Test
+	@DisplayName("여정 저장 실패 - 업로드한 썸네일 삭제")
+	void createJourney_SaveFailed() throws IOException {
+
+		Member member = new Member("tHereId", "tHereEmail", "tHerePassword",
+			"온데", "testNickname");
+
+		given(memberRepository.findById(anyString()))
+			.willReturn(Optional.of(member));
+
+		FileInputStream fis = new FileInputStream(
+			"src/main/resources/testImages/" + "1.png");
+		MockMultipartFile testThumbnail = new MockMultipartFile("1", "1.png",
+			"png", fis);
+
+		given(awsS3Service.uploadFiles(any()))
+			.willReturn(new ArrayList<>(Arrays.asList("testUrl")));
+		given(journeyRepository.save(any()))
+			.willThrow(new DataIntegrityViolationException("저장 실패"));
+
+		assertThrows(DataIntegrityViolationException.class,
+			() -> journeyService.createJourney(
+				CreateRequest.builder()
+					.memberId("tHereId")
+					.title("TitleTest")
+					.startDate(LocalDate.parse("2022-10-16"))
+					.endDate(LocalDate.parse("2022-10-17"))
+					.disclosure("public")
+					.journeyThemes(Arrays.asList("힐링", "식도락"))
+					.introductionText("테스트 소개 글")
+					.numberOfPeople(7)
+					.region("서울")
+					.build(),
+				testThumbnail,
+				"tHereId"
+			));
+
+		verify(awsS3Service, times(1)).deleteFiles(List.of("testUrl"));
+	}
+
 	@Test
 	@DisplayName("종료 날짜가 시작 날짜보다 과거 - 여정 생성 실패")
 	void createJourney_DateError() throws IOException {
@@ -183,9 +241,6 @@ public class JourneyServiceTest {
 		MockMultipartFile mockMultipartFile = new MockMultipartFile(fileName,
 			fileName + "." + contentType, contentType, fileInputStream);
 
-		given(awsS3Service.uploadFiles(any()))
-			.willReturn(new ArrayList<>(Arrays.asList("testUrl")));
-
 		JourneyException exception = assertThrows(JourneyException.class,
 			() -> journeyService.createJourney(
 				JourneyDto.CreateRequest.builder()
@@ -204,6 +259,7 @@ public class JourneyServiceTest {
 			));
 
 		assertEquals(THERE_IS_NO_MATCHING_THEME, exception.getErrorCode());
+		verify(awsS3Service, never()).uploadFiles(any());
 	}
 
 	@Test
@@ -224,9 +280,6 @@ public class JourneyServiceTest {
 		MockMultipartFile mockMultipartFile = new MockMultipartFile(fileName,
 			fileName + "." + contentType, contentType, fileInputStream);
 
-		given(awsS3Service.uploadFiles(any()))
-			.willReturn(new ArrayList<>(Arrays.asList("testUrl")));
-
 		JourneyException exception = assertThrows(JourneyException.class,
 			() -> journeyService.createJourney(
 				JourneyDto.CreateRequest.builder()
@@ -246,6 +299,7 @@ public class JourneyServiceTest {
 
 		assertEquals(JourneyErrorCode.NO_REGION_MATCHES,
 			exception.getErrorCode());
+		verify(awsS3Service, never()).uploadFiles(any());
 	}
 
 	@Test
@@ -286,22 +340,35 @@ public class JourneyServiceTest {
 				.journeyThemeName(JourneyThemeType.HEALING)
 				.build(),
 			JourneyTheme.builder()
-				.id(1L)
+				.id(2L)
 				.journey(journeyList.get(0))
 				.journeyThemeName(JourneyThemeType.RESTAURANT)
+				.build(),
+			JourneyTheme.builder()
+				.id(3L)
+				.journey(journeyList.get(1))
+				.journeyThemeName(JourneyThemeType.HEALING)
+				.build(),
+			JourneyTheme.builder()
+				.id(4L)
+				.journey(journeyList.get(1))
+				.journeyThemeName(JourneyThemeType.RESTAURANT)
 				.build()
 		);
 
-		given(journeyRepository.findAllByDisclosure(anyString()))
+		given(journeyRepository.findPublicFeed(any(), anyInt()))
 			.willReturn(journeyList);
-		given(journeyThemeRepository.findAllByJourneyId(any()))
+		given(journeyThemeRepository.findAllByJourneyIdInOrderByIdAsc(any()))
 			.willReturn(journeyTheme);
 
 		//when
-		List<JourneyListResponse> list = journeyService.list();
+		JourneyFeedResponse response = journeyService.list(null, 2);
+		List<JourneyListResponse> list = response.getContent();
 
 		//then
 		assertEquals(2, list.size());
+		assertFalse(response.isHasNext());
+		assertEquals(2L, response.getNextCursor());
 		assertEquals(1L, list.get(0).getJourneyId());
 		assertEquals(2L, list.get(1).getJourneyId());
 		assertEquals("TitleTest", list.get(0).getTitle());
@@ -310,6 +377,9 @@ public class JourneyServiceTest {
 			list.get(0).getJourneyThemes());
 		assertEquals(Arrays.asList("힐링", "식도락"),
 			list.get(1).getJourneyThemes());
+		verify(journeyRepository, times(1)).findPublicFeed(null, 3);
+		verify(journeyThemeRepository, times(1))
+			.findAllByJourneyIdInOrderByIdAsc(any());
 	}
 
 	@Test
@@ -323,7 +393,7 @@ public class JourneyServiceTest {
 
 		//when
 		JourneyException exception = assertThrows(JourneyException.class,
-			() -> journeyService.myList("test", pageable));
+			() -> journeyService.myList("test", pageable, true));
 
 		//then
 		assertEquals(JourneyErrorCode.NOT_FOUND_MEMBER,
@@ -28,7 +28,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.web.WebAppConfiguration;
@@ -223,8 +223,8 @@ public class JourneyServiceTest2 {
 		PageRequest pageable = PageRequest.of(0, 2);
 
 		//when
-		Page<Journey> result = journeyRepository
-			.myList("tHereId", pageable);
+		Slice<Journey> result = journeyRepository
+			.myList("tHereId", pageable, true);
 
 		//then
 		assertThat(result.getSize()).isEqualTo(2);
@@ -0,0 +1,155 @@
+package onde.there.member;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import onde.there.member.exception.MemberException;
+import onde.there.member.exception.type.MemberErrorCode;
+import onde.there.member.utils.MailDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MailDispatcher mailDispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailDispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("로컬 SMTP 서버로 묶어서 발송")
+    void dispatchToSmtpServer() throws InterruptedException {
+        //given
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 10, 3, 3, 10, 100);
+        mailDispatcher.start();
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            mailDispatcher.dispatch(mail("test" + i + "@test.com"));
+        }
+
+        //then
+        assertTrue(greenMail.waitForIncomingEmail(5000, 5));
+        assertEquals(5, greenMail.getReceivedMessages().length);
+        Thread.sleep(100);
+        assertEquals(5, meterRegistry.get("mail.sent").counter().count());
+        assertEquals(0, meterRegistry.get("mail.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 대기 후 재발송")
+    void retryFailedMail() {
+        //given
+        JavaMailSender javaMailSender = mockJavaMailSender();
+        willThrow(new MailSendException("연결 실패"))
+            .willAnswer(invocation -> null)
+            .given(javaMailSender).send(any(MimeMessage[].class));
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 10, 3, 3, 10, 100);
+        mailDispatcher.start();
+
+        //when
+        mailDispatcher.dispatch(mail("test@test.com"));
+
+        //then
+        verify(javaMailSender, timeout(2000).times(2)).send(any(MimeMessage[].class));
+        assertEquals(1, meterRegistry.get("mail.send").tag("result", "failure").timer()
+            .count());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수 초과 - 메일 버림")
+    void dropAfterMaxAttempts() throws InterruptedException {
+        //given
+        JavaMailSender javaMailSender = mockJavaMailSender();
+        willThrow(new MailSendException("연결 실패"))
+            .given(javaMailSender).send(any(MimeMessage[].class));
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 10, 3, 3, 10, 100);
+        mailDispatcher.start();
+
+        //when
+        mailDispatcher.dispatch(mail("test@test.com"));
+
+        //then
+        verify(javaMailSender, timeout(2000).times(3)).send(any(MimeMessage[].class));
+        Thread.sleep(200);
+        verify(javaMailSender, times(3)).send(any(MimeMessage[].class));
+        assertEquals(1, meterRegistry.get("mail.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("발송 큐가 가득 참 - 기다린 뒤 실패")
+    void dispatchQueueFull() throws InterruptedException {
+        //given
+        JavaMailSender javaMailSender = mockJavaMailSender();
+        CountDownLatch latch = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(javaMailSender).send(any(MimeMessage[].class));
+        mailDispatcher = new MailDispatcher(javaMailSender, meterRegistry, 1, 1, 3, 10, 100);
+        mailDispatcher.start();
+
+        // 첫 메일은 발송 중에 멈춰 있고, 두 번째 메일이 큐를 채운다
+        mailDispatcher.dispatch(mail("test1@test.com"));
+        verify(javaMailSender, timeout(2000)).send(any(MimeMessage[].class));
+        mailDispatcher.dispatch(mail("test2@test.com"));
+
+        //when
+        MemberException exception = assertThrows(MemberException.class,
+            () -> mailDispatcher.dispatch(mail("test3@test.com")));
+
+        //then
+        assertEquals(MemberErrorCode.MAIL_QUEUE_FULL, exception.getMemberErrorCode());
+        latch.countDown();
+    }
+
+    private JavaMailSender mockJavaMailSender() {
+        JavaMailSender javaMailSender = mock(JavaMailSender.class);
+        given(javaMailSender.createMimeMessage())
+            .willAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+        return javaMailSender;
+    }
+
+    private MimeMessagePreparator mail(String to) {
+        return mimeMessage -> {
+            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, "UTF-8");
+            mimeMessageHelper.setFrom("there@test.com");
+            mimeMessageHelper.setTo(to);
+            mimeMessageHelper.setSubject("테스트");
+            mimeMessageHelper.setText("테스트 메일");
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package onde.there.member;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 import onde.there.domain.Member;
 import onde.there.dto.member.MemberDto;
@@ -8,13 +9,12 @@ import onde.there.member.exception.MemberException;
 import onde.there.member.exception.type.MemberErrorCode;
 import onde.there.member.security.jwt.JwtService;
 import onde.there.member.service.MemberService;
+import onde.there.member.utils.MailDispatcher;
 import onde.there.member.utils.MailService;
 import onde.there.member.utils.RedisService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,8 +40,8 @@ public class MemberServiceTest {
 
     class TestMailService extends MailService {
 
-        public TestMailService(JavaMailSender javaMailSender) {
-            super(javaMailSender);
+        public TestMailService(MailDispatcher mailDispatcher) {
+            super(mailDispatcher);
         }
 
         @Override
@@ -106,7 +106,7 @@ public class MemberServiceTest {
     @Test
     void 회원가입요청_성공 () {
         // given
-        TestMailService testMailService = new TestMailService(new JavaMailSenderImpl());
+        TestMailService testMailService = new TestMailService(mock(MailDispatcher.class));
         MemberDto.SignupRequest request = new MemberDto.SignupRequest("test2","test@test.com","test2","test2", "1234");
 
         // when
@@ -0,0 +1,91 @@
+package onde.there.member.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import onde.there.domain.Member;
+import onde.there.member.exception.MemberException;
+import onde.there.member.exception.type.MemberErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtServiceTest {
+
+	private static final String SECRET_KEY = "test-secret";
+
+	private MeterRegistry meterRegistry;
+	private JwtService jwtService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		jwtService = new JwtService(meterRegistry, 100);
+		ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+	}
+
+	@Test
+	@DisplayName("같은 토큰은 한 번만 파싱하고 캐시된 claims 사용")
+	void authenticateFromCache() {
+		//given
+		String accessToken = jwtService.generateToken(
+			new UsernamePasswordAuthenticationToken("test", "")).getAccessToken();
+
+		//when
+		Authentication first = jwtService.authenticate(accessToken);
+		Authentication second = jwtService.authenticate(accessToken);
+
+		//then
+		assertEquals("test", ((Member) first.getPrincipal()).getId());
+		assertEquals("test", ((Member) second.getPrincipal()).getId());
+		assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "jwtAccessToken")
+			.tag("result", "hit").functionCounter().count());
+		assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "jwtAccessToken")
+			.tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("변조된 토큰 - 캐시하지 않고 실패")
+	void authenticateInvalidToken() {
+		//given
+		String accessToken = jwtService.generateToken(
+			new UsernamePasswordAuthenticationToken("test", "")).getAccessToken();
+		String tamperedToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+		//when
+		MemberException first = assertThrows(MemberException.class,
+			() -> jwtService.authenticate(tamperedToken));
+		MemberException second = assertThrows(MemberException.class,
+			() -> jwtService.authenticate(tamperedToken));
+
+		//then
+		assertEquals(MemberErrorCode.INVALID_ACCESS_TOKEN, first.getMemberErrorCode());
+		assertEquals(MemberErrorCode.INVALID_ACCESS_TOKEN, second.getMemberErrorCode());
+	}
+
+	@Test
+	@DisplayName("만료된 토큰 - 실패")
+	void authenticateExpiredToken() {
+		//given
+		String accessToken = Jwts.builder()
+			.setSubject("test")
+			.setExpiration(new Date(System.currentTimeMillis() - 1000))
+			.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+			.compact();
+
+		//when
+		MemberException exception = assertThrows(MemberException.class,
+			() -> jwtService.authenticate(accessToken));
+
+		//then
+		assertEquals(MemberErrorCode.EXPIRED_ACCESS_TOKEN, exception.getMemberErrorCode());
+	}
+}
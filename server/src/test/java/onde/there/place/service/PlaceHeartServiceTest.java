@@ -4,7 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import onde.there.domain.Member;
 import onde.there.domain.Place;
 import onde.there.domain.PlaceHeart;
@@ -12,16 +27,24 @@ import onde.there.member.repository.MemberRepository;
 import onde.there.place.exception.PlaceErrorCode;
 import onde.there.place.exception.PlaceException;
 import onde.there.place.repository.PlaceHeartRepository;
-import onde.there.place.repository.PlaceHeartSchedulingRepository;
 import onde.there.place.repository.PlaceRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional
-@SpringBootTest
+@SpringBootTest(properties = "place.heart.flush-interval=3600000")
 class PlaceHeartServiceTest {
 
 	@Autowired
@@ -33,10 +56,22 @@ class PlaceHeartServiceTest {
 	@Autowired
 	private MemberRepository memberRepository;
 	@Autowired
-	private PlaceHeartSchedulingRepository placeHeartSchedulingRepository;
+	private PlaceHeartCountService placeHeartCountService;
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+	@Autowired
+	private PlaceHeartSetService placeHeartSetService;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void clearHeartSet() {
+		redisTemplate.delete(PlaceHeartSetService.key("testMember"));
+		redisTemplate.delete(PlaceHeartSetService.versionKey("testMember"));
+	}
 
 
-	@DisplayName("01_00. heart success -> Place.placeHeartSum < 1000")
+	@DisplayName("01_00. heart success -> placeHeartCount is reflected on flush")
 	@Test
 	public void test_01_00() {
 		//given
@@ -53,11 +88,11 @@ class PlaceHeartServiceTest {
 		placeHeartService.heart(placeId, "testMember");
 
 		//then
-		assertEquals(place.getPlaceHeartCount(), 11);
+		assertEquals(place.getPlaceHeartCount(), 10);
 		assertTrue(placeHeartRepository.existsByPlaceIdAndMemberId(place.getId(), "testMember"));
 	}
 
-	@DisplayName("01_01. heart success -> Place.placeHeartSum >= 1000")
+	@DisplayName("01_01. flush -> apply heart delta to Place.placeHeartCount")
 	@Test
 	public void test_01_01() {
 		//given
@@ -66,17 +101,16 @@ class PlaceHeartServiceTest {
 			.build());
 		Long placeId = place.getId();
 
-		Member member = new Member();
-		member.setId("testMember");
-		memberRepository.save(member);
+		redisTemplate.opsForHash().increment(PlaceHeartCountService.DELTA_KEY,
+			String.valueOf(placeId), 3);
 
 		//when
-		placeHeartService.heart(placeId, "testMember");
+		placeHeartCountService.flush();
 
 		//then
-		assertEquals(place.getPlaceHeartCount(), 10000);
-		assertTrue(placeHeartRepository.existsByPlaceIdAndMemberId(place.getId(), "testMember"));
-		assertEquals(placeHeartSchedulingRepository.findAll().size(), 1);
+		assertEquals(placeRepository.findById(placeId).get().getPlaceHeartCount(), 10003);
+		assertFalse(redisTemplate.hasKey(PlaceHeartCountService.DELTA_KEY));
+		assertFalse(redisTemplate.hasKey(PlaceHeartCountService.FLUSHING_KEY));
 	}
 
 	@DisplayName("01_02. heart fail not found place")
@@ -135,7 +169,7 @@ class PlaceHeartServiceTest {
 		assertEquals(exception.getErrorCode(), PlaceErrorCode.ALREADY_HEARTED);
 	}
 
-	@DisplayName("02_00. unheart success -> Place.placeHeartSum < 1000")
+	@DisplayName("02_00. unheart success -> placeHeartCount is reflected on flush")
 	@Test
 	public void test_02_00() {
 		//given
@@ -157,11 +191,11 @@ class PlaceHeartServiceTest {
 		placeHeartService.unHeart(placeId, "testMember");
 
 		//then
-		assertEquals(place.getPlaceHeartCount(), 9);
+		assertEquals(place.getPlaceHeartCount(), 10);
 		assertFalse(placeHeartRepository.existsByPlaceIdAndMemberId(place.getId(), "testMember"));
 	}
 
-	@DisplayName("02_01. unheart success -> Place.placeHeartSum >= 1000")
+	@DisplayName("02_01. flush -> recount places left over from an interrupted flush")
 	@Test
 	public void test_02_01() {
 		//given
@@ -179,12 +213,154 @@ class PlaceHeartServiceTest {
 			.member(member)
 			.build());
 
+		redisTemplate.opsForHash().increment(PlaceHeartCountService.FLUSHING_KEY,
+			String.valueOf(placeId), 1);
+
 		//when
-		placeHeartService.unHeart(placeId, "testMember");
+		placeHeartCountService.flush();
 
 		//then
-		assertEquals(place.getPlaceHeartCount(), 10000);
-		assertFalse(placeHeartRepository.existsByPlaceIdAndMemberId(place.getId(), "testMember"));
+		assertEquals(placeRepository.findById(placeId).get().getPlaceHeartCount(), 1);
+		assertFalse(redisTemplate.hasKey(PlaceHeartCountService.FLUSHING_KEY));
+	}
+
+	@DisplayName("05_00. flush -> drop pending deltas of recounted places")
+	@Test
+	public void test_05_00() {
+		//given
+		Place place = placeRepository.save(Place.builder()
+			.placeHeartCount(10000)
+			.build());
+		Long placeId = place.getId();
+
+		Member member = new Member();
+		member.setId("testMember");
+		memberRepository.save(member);
+
+		placeHeartRepository.save(PlaceHeart.builder()
+			.place(place)
+			.member(member)
+			.build());
+
+		// 재계산 결과에 이미 들어 있는 좋아요의 증감값
+		redisTemplate.opsForHash().increment(PlaceHeartCountService.FLUSHING_KEY,
+			String.valueOf(placeId), 1);
+		redisTemplate.opsForHash().increment(PlaceHeartCountService.DELTA_KEY,
+			String.valueOf(placeId), 1);
+
+		//when
+		placeHeartCountService.flush();
+		placeHeartCountService.flush();
+
+		//then
+		assertEquals(placeRepository.findById(placeId).get().getPlaceHeartCount(), 1);
+		assertFalse(redisTemplate.hasKey(PlaceHeartCountService.DELTA_KEY));
+	}
+
+	@DisplayName("05_01. flush -> skip while another server holds the flush lock")
+	@Test
+	public void test_05_01() {
+		//given
+		Place place = placeRepository.save(Place.builder()
+			.placeHeartCount(10000)
+			.build());
+		Long placeId = place.getId();
+
+		redisTemplate.opsForHash().increment(PlaceHeartCountService.FLUSHING_KEY,
+			String.valueOf(placeId), 1);
+		redisTemplate.opsForValue().set(PlaceHeartCountService.LOCK_KEY, "otherServer");
+
+		try {
+			//when
+			placeHeartCountService.flush();
+
+			//then
+			assertEquals(placeRepository.findById(placeId).get().getPlaceHeartCount(), 10000);
+			assertTrue(redisTemplate.hasKey(PlaceHeartCountService.FLUSHING_KEY));
+			assertEquals("otherServer",
+				redisTemplate.opsForValue().get(PlaceHeartCountService.LOCK_KEY));
+		} finally {
+			redisTemplate.delete(PlaceHeartCountService.LOCK_KEY);
+			redisTemplate.delete(PlaceHeartCountService.FLUSHING_KEY);
+		}
+	}
+
+	@DisplayName("05_02. flush -> heart committed while recounting is counted once")
+	@Test
+	public void test_05_02() {
+		//given
+		Place place = placeRepository.save(Place.builder()
+			.placeHeartCount(10000)
+			.build());
+		Long placeId = place.getId();
+
+		Member member = new Member();
+		member.setId("testMember");
+		memberRepository.save(member);
+		Member otherMember = new Member();
+		otherMember.setId("otherMember");
+		memberRepository.save(otherMember);
+
+		placeHeartRepository.save(PlaceHeart.builder()
+			.place(place)
+			.member(member)
+			.build());
+
+		redisTemplate.opsForHash().increment(PlaceHeartCountService.FLUSHING_KEY,
+			String.valueOf(placeId), 1);
+
+		// 재계산 직전에 다른 요청의 좋아요가 커밋되고 증감값이 쌓인 경우
+		PlaceRepository recountingRepository = mock(PlaceRepository.class,
+			AdditionalAnswers.delegatesTo(placeRepository));
+		doAnswer(invocation -> {
+			placeHeartRepository.save(PlaceHeart.builder()
+				.place(place)
+				.member(otherMember)
+				.build());
+			CompletableFuture.runAsync(() -> placeHeartCountService.increase(placeId)).join();
+			return placeRepository.recountPlaceHeartCount(invocation.getArgument(0));
+		}).when(recountingRepository).recountPlaceHeartCount(anyCollection());
+		PlaceHeartCountService recountingService = new PlaceHeartCountService(redisTemplate,
+			recountingRepository, transactionTemplate, 60000);
+
+		//when
+		recountingService.flush();
+		placeHeartCountService.flush();
+
+		//then
+		assertEquals(2, placeRepository.findById(placeId).get().getPlaceHeartCount());
+		assertFalse(redisTemplate.hasKey(PlaceHeartCountService.DELTA_KEY));
+		assertFalse(redisTemplate.hasKey(PlaceHeartCountService.FLUSHING_KEY));
+	}
+
+	@DisplayName("05_03. flush -> recount places whose delta could not be stored in Redis")
+	@Test
+	public void test_05_03() {
+		//given
+		StringRedisTemplate failingRedisTemplate = mock(StringRedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+		given(failingRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(failingRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+		given(valueOperations.setIfAbsent(eq(PlaceHeartCountService.LOCK_KEY), anyString(),
+			any(Duration.class))).willReturn(true);
+		given(failingRedisTemplate.hasKey(anyString())).willReturn(false);
+		given(hashOperations.increment(PlaceHeartCountService.DELTA_KEY, "1", 1L))
+			.willThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+
+		PlaceRepository mockPlaceRepository = mock(PlaceRepository.class);
+		PlaceHeartCountService failingService = new PlaceHeartCountService(
+			failingRedisTemplate, mockPlaceRepository,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)), 60000);
+
+		//when
+		failingService.increase(1L);
+		failingService.flush();
+		failingService.flush();
+
+		//then
+		verify(mockPlaceRepository, times(1)).recountPlaceHeartCount(List.of(1L));
+		verify(hashOperations).delete(PlaceHeartCountService.DELTA_KEY, "1");
 	}
 
 	@DisplayName("02_02. unheart fail not found place")
@@ -236,4 +412,152 @@ class PlaceHeartServiceTest {
 		//then
 		assertEquals(exception.getErrorCode(), PlaceErrorCode.ALREADY_UN_HEARTED);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("03_00. hearted success -> load heart set from place_heart")
+	@Test
+	public void test_03_00() {
+		//given
+		Place hearted = placeRepository.save(Place.builder().build());
+		Place notHearted = placeRepository.save(Place.builder().build());
+
+		Member member = new Member();
+		member.setId("testMember");
+		memberRepository.save(member);
+
+		placeHeartRepository.save(PlaceHeart.builder()
+			.place(hearted)
+			.member(member)
+			.build());
+
+		//when
+		Map<Long, Boolean> result = placeHeartService.hearted(
+			Arrays.asList(hearted.getId(), notHearted.getId()), "testMember");
+
+		//then
+		assertTrue(result.get(hearted.getId()));
+		assertFalse(result.get(notHearted.getId()));
+		assertTrue(redisTemplate.opsForSet().isMember(
+			PlaceHeartSetService.key("testMember"), String.valueOf(hearted.getId())));
+	}
+
+	@DisplayName("03_01. hearted success -> answer from loaded heart set")
+	@Test
+	public void test_03_01() {
+		//given
+		redisTemplate.opsForSet().add(PlaceHeartSetService.key("testMember"),
+			PlaceHeartSetService.LOADED, "100");
+
+		//when
+		Map<Long, Boolean> result = placeHeartService.hearted(
+			Arrays.asList(100L, 101L), "testMember");
+
+		//then
+		assertTrue(result.get(100L));
+		assertFalse(result.get(101L));
+	}
+
+	@DisplayName("03_02. hearted fail -> too many place ids")
+	@Test
+	public void test_03_02() {
+		//given
+		List<Long> placeIds = new ArrayList<>();
+		for (long i = 1; i <= 101; i++) {
+			placeIds.add(i);
+		}
+
+		//when
+		PlaceException exception = assertThrows(PlaceException.class,
+			() -> placeHeartService.hearted(placeIds, "testMember"));
+
+		//then
+		assertEquals(exception.getErrorCode(), PlaceErrorCode.TOO_MANY_PLACE_IDS);
+	}
+
+	@DisplayName("03_03. load -> heart removed while reading place_heart is not overwritten")
+	@Test
+	// 트랜잭션 밖에서 호출해 취소가 커밋 대기 없이 바로 셋에 반영되게 한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void test_03_03() {
+		//given
+		redisTemplate.opsForSet().add(PlaceHeartSetService.key("testMember"),
+			PlaceHeartSetService.LOADED, "100");
+		String version = redisTemplate.opsForValue()
+			.get(PlaceHeartSetService.versionKey("testMember"));
+		// DB 를 읽은 뒤 셋에 반영되기 전에 좋아요가 취소된 경우
+		placeHeartSetService.remove("testMember", 100L);
+
+		//when
+		boolean replaced = placeHeartSetService.replace("testMember", version, List.of(100L));
+
+		//then
+		assertFalse(replaced);
+		assertFalse(redisTemplate.opsForSet().isMember(
+			PlaceHeartSetService.key("testMember"), "100"));
+		assertTrue(placeHeartSetService.replace("testMember",
+			redisTemplate.opsForValue().get(PlaceHeartSetService.versionKey("testMember")),
+			List.of(101L)));
+		assertTrue(redisTemplate.opsForSet().isMember(
+			PlaceHeartSetService.key("testMember"), "101"));
+	}
+
+	@DisplayName("04_00. putHeart twice -> one place_heart row, second call reports no change")
+	@Test
+	public void test_04_00() {
+		//given
+		Place place = placeRepository.save(Place.builder().build());
+
+		Member member = new Member();
+		member.setId("testMember");
+		memberRepository.save(member);
+
+		//when
+		boolean first = placeHeartService.putHeart(place.getId(), "testMember");
+		boolean second = placeHeartService.putHeart(place.getId(), "testMember");
+
+		//then
+		assertTrue(first);
+		assertFalse(second);
+		assertEquals(placeHeartRepository.findAllByPlaceId(place.getId()).size(), 1);
+	}
+
+	@DisplayName("04_01. deleteHeart twice -> second call reports no change")
+	@Test
+	public void test_04_01() {
+		//given
+		Place place = placeRepository.save(Place.builder().build());
+
+		Member member = new Member();
+		member.setId("testMember");
+		memberRepository.save(member);
+
+		placeHeartRepository.save(PlaceHeart.builder()
+			.place(place)
+			.member(member)
+			.build());
+
+		//when
+		boolean first = placeHeartService.deleteHeart(place.getId(), "testMember");
+		boolean second = placeHeartService.deleteHeart(place.getId(), "testMember");
+
+		//then
+		assertTrue(first);
+		assertFalse(second);
+		assertFalse(placeHeartRepository.existsByPlaceIdAndMemberId(place.getId(), "testMember"));
+	}
+
+	@DisplayName("04_02. putHeart fail not found place")
+	@Test
+	public void test_04_02() {
+		//given
+		Member member = new Member();
+		member.setId("testMember");
+		memberRepository.save(member);
+
+		//when
+		PlaceException exception = assertThrows(PlaceException.class,
+			() -> placeHeartService.putHeart(100000000L, "testMember"));
+
+		//then
+		assertEquals(exception.getErrorCode(), PlaceErrorCode.NOT_FOUND_PLACE);
+	}
+}
@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import onde.there.comment.repository.CommentRepository;
+import onde.there.domain.Comment;
 import onde.there.domain.Journey;
 import onde.there.domain.Member;
 import onde.there.domain.Place;
@@ -18,6 +20,7 @@ import onde.there.domain.PlaceImage;
 import onde.there.domain.type.PlaceCategoryType;
 import onde.there.dto.place.PlaceDto;
 import onde.there.dto.place.PlaceDto.CreateRequest;
+import onde.there.dto.place.PlaceDto.NearbyResponse;
 import onde.there.dto.place.PlaceDto.Response;
 import onde.there.dto.place.PlaceDto.UpdateRequest;
 import onde.there.image.service.AwsS3Service;
@@ -28,10 +31,14 @@ import onde.there.place.exception.PlaceException;
 import onde.there.place.repository.PlaceHeartRepository;
 import onde.there.place.repository.PlaceImageRepository;
 import onde.there.place.repository.PlaceRepository;
+import onde.there.place.repository.PlaceRepositoryCustomImpl;
+import onde.there.place.utils.GeoHash;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,6 +53,9 @@ class PlaceServiceTest {
 	@Autowired
 	private PlaceRepository placeRepository;
 
+	@Autowired
+	private PlaceRepositoryCustomImpl placeRepositoryCustom;
+
 	@Autowired
 	private PlaceImageRepository placeImageRepository;
 
@@ -61,6 +71,19 @@ class PlaceServiceTest {
 	@Autowired
 	private AwsS3Service awsS3Service;
 
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	// 테스트 데이터는 롤백되지만 list 가 채운 좋아요 장소 셋은 Redis 에 남는다
+	@AfterEach
+	void clearHeartSet() {
+		redisTemplate.delete(PlaceHeartSetService.key("memberId"));
+		redisTemplate.delete(PlaceHeartSetService.key(""));
+	}
+
 	@Test
 	void 장소_저장() throws IOException {
 		//given
@@ -464,6 +487,132 @@ class PlaceServiceTest {
 		assertEquals(placeException.getErrorCode(), PlaceErrorCode.MISMATCH_MEMBER_ID);
 	}
 
+	@DisplayName("03_03. delete success with comments and hearts")
+	@Test
+	public void test_03_03() {
+		//given
+		Member member = memberRepository.save(Member.builder()
+			.id("memberId")
+			.build());
+		Place save = placeRepository.save(Place.builder()
+			.journey(journeyRepository.save(Journey.builder()
+				.member(member)
+				.build()))
+			.build());
+
+		Comment comment = commentRepository.save(Comment.builder()
+			.member(member)
+			.place(save)
+			.text("댓글")
+			.build());
+		PlaceHeart placeHeart = placeHeartRepository.save(PlaceHeart.builder()
+			.member(member)
+			.place(save)
+			.build());
+
+		//when
+		boolean delete = placeService.delete(save.getId(), "memberId");
+
+		//then
+		assertTrue(delete);
+		assertFalse(placeRepository.existsById(save.getId()));
+		assertFalse(commentRepository.existsById(comment.getId()));
+		assertFalse(placeHeartRepository.existsById(placeHeart.getId()));
+	}
+
+	@DisplayName("05_00. nearby success - 반경 안의 공개 여정 장소만 가까운 순으로 조회")
+	@Test
+	public void test_05_00() {
+		//given
+		Member member = memberRepository.save(Member.builder()
+			.id("memberId")
+			.build());
+		Journey publicJourney = journeyRepository.save(Journey.builder()
+			.member(member)
+			.disclosure("public")
+			.build());
+		Journey privateJourney = journeyRepository.save(Journey.builder()
+			.member(member)
+			.disclosure("private")
+			.build());
+
+		// 서울시청 기준
+		Place far = savePlace(publicJourney, 37.5796, 126.9770, PlaceCategoryType.NATURE);
+		Place near = savePlace(publicJourney, 37.5670, 126.9785, PlaceCategoryType.NATURE);
+		Place restaurant = savePlace(publicJourney, 37.5660, 126.9790,
+			PlaceCategoryType.RESTAURANT);
+		savePlace(privateJourney, 37.5666, 126.9781, PlaceCategoryType.NATURE);
+		savePlace(publicJourney, 35.1796, 129.0756, PlaceCategoryType.NATURE);
+
+		//when
+		List<NearbyResponse> responses = placeService.nearby(37.5665, 126.9780, 2, null, 10);
+		List<NearbyResponse> natures = placeService.nearby(37.5665, 126.9780, 2,
+			PlaceCategoryType.NATURE.getDescription(), 10);
+
+		//then
+		assertEquals(List.of(near.getId(), restaurant.getId(), far.getId()),
+			toPlaceIds(responses));
+		assertTrue(responses.get(0).getDistance() <= responses.get(1).getDistance());
+		assertEquals(List.of(near.getId(), far.getId()), toPlaceIds(natures));
+	}
+
+	@DisplayName("05_01. nearby fail - 최대 반경 초과")
+	@Test
+	public void test_05_01() {
+		//when
+		PlaceException placeException = assertThrows(PlaceException.class,
+			() -> placeService.nearby(37.5665, 126.9780, 100, null, 10));
+
+		//then
+		assertEquals(placeException.getErrorCode(), PlaceErrorCode.BAD_REQUEST);
+	}
+
+	@DisplayName("05_02. nearby candidates - 후보 수 제한 안에 가장 가까운 장소부터 포함")
+	@Test
+	public void test_05_02() {
+		//given
+		Member member = memberRepository.save(Member.builder()
+			.id("memberId")
+			.build());
+		Journey publicJourney = journeyRepository.save(Journey.builder()
+			.member(member)
+			.disclosure("public")
+			.build());
+
+		Place far = savePlace(publicJourney, 37.5796, 126.9770, PlaceCategoryType.NATURE);
+		Place near = savePlace(publicJourney, 37.5670, 126.9785, PlaceCategoryType.NATURE);
+		Place middle = savePlace(publicJourney, 37.5700, 126.9790, PlaceCategoryType.NATURE);
+
+		//when
+		List<Place> candidates = placeRepositoryCustom.findNearbyCandidates(37.5665, 126.9780,
+			GeoHash.coveringCells(37.5665, 126.9780, 2000), 37.54, 37.59, 126.95, 127.00,
+			null, 2);
+
+		//then
+		assertEquals(List.of(near.getId(), middle.getId()), List.of(
+			candidates.get(0).getId(), candidates.get(1).getId()));
+		assertFalse(candidates.stream().anyMatch(place -> place.getId().equals(far.getId())));
+	}
+
+	private Place savePlace(Journey journey, double latitude, double longitude,
+		PlaceCategoryType placeCategory) {
+		return placeRepository.save(Place.builder()
+			.journey(journey)
+			.latitude(latitude)
+			.longitude(longitude)
+			.placeCategory(placeCategory)
+			.placeImages(new ArrayList<>())
+			.build());
+	}
+
+	private List<Long> toPlaceIds(List<NearbyResponse> responses) {
+		List<Long> placeIds = new ArrayList<>();
+		for (NearbyResponse response : responses) {
+			placeIds.add(response.getPlaceId());
+		}
+		return placeIds;
+	}
+
 	@DisplayName("04_00. deleteAll success")
 	@Test
 	public void test_04_00() {
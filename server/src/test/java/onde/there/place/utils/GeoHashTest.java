@@ -0,0 +1,57 @@
+package onde.there.place.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+	@Test
+	@DisplayName("위도, 경도를 geohash 로 변환")
+	void encode() {
+		assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+		assertEquals("wydm9qy89", GeoHash.encode(37.5665, 126.9780, 9));
+	}
+
+	@Test
+	@DisplayName("두 지점 사이의 거리 - 서울시청에서 부산시청까지 약 325km")
+	void distanceMeters() {
+		double distance = GeoHash.distanceMeters(37.5665, 126.9780, 35.1796, 129.0756);
+
+		assertEquals(325, Math.round(distance / 1000));
+	}
+
+	@Test
+	@DisplayName("반경을 덮는 칸 - 반경 끝에 있는 지점도 포함")
+	void coveringCellsContainsPointsInRadius() {
+		//given
+		double latitude = 37.5665;
+		double longitude = 126.9780;
+		double radiusMeters = 1000;
+
+		//when
+		List<String> cells = GeoHash.coveringCells(latitude, longitude, radiusMeters);
+
+		//then
+		assertEquals(9, cells.size());
+		for (int degree = 0; degree < 360; degree += 15) {
+			double latitudeDelta = radiusMeters / GeoHash.METERS_PER_DEGREE
+				* Math.sin(Math.toRadians(degree));
+			double longitudeDelta = radiusMeters / (GeoHash.METERS_PER_DEGREE
+				* Math.cos(Math.toRadians(latitude))) * Math.cos(Math.toRadians(degree));
+			String geohash = GeoHash.encode(latitude + latitudeDelta, longitude + longitudeDelta,
+				GeoHash.MAX_PRECISION);
+
+			assertTrue(cells.stream().anyMatch(geohash::startsWith), geohash);
+		}
+	}
+
+	@Test
+	@DisplayName("반경이 작을수록 긴 geohash 사용")
+	void precisionFor() {
+		assertTrue(GeoHash.precisionFor(37.5, 500) > GeoHash.precisionFor(37.5, 20000));
+	}
+}